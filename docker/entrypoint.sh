@@ -0,0 +1,14 @@
+#!/bin/sh
+set -e
+
+CDS_OPTS=""
+if [ "${APPCDS_ENABLED:-true}" = "true" ] && [ -f app.jsa ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=app.jsa -Xshare:auto -Xlog:cds=warning -Xlog:class+path=warning"
+fi
+
+AOT_OPTS=""
+if [ "${SPRING_AOT_ENABLED:-false}" = "true" ]; then
+    AOT_OPTS="-Dspring.aot.enabled=true"
+fi
+
+exec java $CDS_OPTS $AOT_OPTS $JAVA_OPTS -jar app.jar "$@"
@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Runs perf/k6/virtual-threads.js once with platform threads and once with virtual threads and writes
+# the side-by-side numbers to perf/k6/results/virtual-threads.md.
+#   docker compose up -d db redis
+#   perf/k6/compare-virtual-threads.sh
+# Each mode gets a fresh JVM from the same boot jar; the raw k6 summaries are kept next to the table.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+RESULTS="$ROOT/perf/k6/results"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT/api"
+VUS="${VUS:-2000}"
+USERS="${USERS:-1000}"
+
+export DB_URL="${DB_URL:-jdbc:postgresql://localhost:5433/user_db}"
+export DB_USERNAME="${DB_USERNAME:-postgres}"
+export DB_PASSWORD="${DB_PASSWORD:-eQ72LCcP2tdQd4oRZYmK}"
+
+mkdir -p "$RESULTS"
+(cd "$ROOT" && ./gradlew -q bootJar)
+JAR="$(ls "$ROOT"/build/libs/*.jar | grep -v plain | head -n 1)"
+
+metric() {
+    curl -sf "$BASE_URL/actuator/metrics/$1" | jq -r '[.measurements[] | select(.statistic == "VALUE")][0].value // "n/a"'
+}
+
+run_mode() {
+    local mode="$1" virtual="$2" pid peak_waiting=0 peak_busy=0
+
+    VIRTUAL_THREADS_ENABLED="$virtual" java -jar "$JAR" --spring.profiles.active=dev --server.port="$PORT" \
+        > "$RESULTS/virtual-threads-$mode.log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+        sleep 0.5
+    done
+
+    (
+        while kill -0 "$pid" 2>/dev/null; do
+            printf '%s %s\n' "$(metric db.concurrency.waiting)" "$(metric tomcat.threads.busy)"
+            sleep 1
+        done
+    ) > "$RESULTS/virtual-threads-$mode.gauges" &
+
+    k6 run -q -e BASE_URL="$BASE_URL" -e MODE="$mode" -e VUS="$VUS" -e USERS="$USERS" \
+        --summary-export "$RESULTS/virtual-threads-$mode.json" "$ROOT/perf/k6/virtual-threads.js"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+row() {
+    local mode="$1" summary="$RESULTS/virtual-threads-$1.json" gauges="$RESULTS/virtual-threads-$1.gauges"
+
+    printf '| %s | %.0f | %.1f | %.1f | %.1f | %.2f%% | %s | %s |\n' "$mode" \
+        "$(jq '.metrics.http_reqs.rate' "$summary")" \
+        "$(jq '.metrics.http_req_duration["p(50)"]' "$summary")" \
+        "$(jq '.metrics.http_req_duration["p(95)"]' "$summary")" \
+        "$(jq '.metrics.http_req_duration["p(99)"]' "$summary")" \
+        "$(jq '.metrics.http_req_failed.value * 100' "$summary")" \
+        "$(awk '$1 != "n/a" && $1 > m { m = $1 } END { print m + 0 }' "$gauges")" \
+        "$(awk '$2 != "n/a" && $2 > m { m = $2 } END { print m + 0 }' "$gauges")"
+}
+
+run_mode platform false
+run_mode virtual true
+
+{
+    echo "# Platform vs virtual threads ($VUS VUs, $USERS users, $(date -u +%Y-%m-%dT%H:%M:%SZ))"
+    echo
+    echo "| mode | req/s | p50 ms | p95 ms | p99 ms | failed | peak db waiting | peak tomcat busy |"
+    echo "|------|-------|--------|--------|--------|--------|-----------------|------------------|"
+    row platform
+    row virtual
+} | tee "$RESULTS/virtual-threads.md"
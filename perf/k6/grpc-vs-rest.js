@@ -0,0 +1,106 @@
+// Latency and throughput of the gRPC UserApi/PaymentCardApi against the equivalent REST endpoints.
+// Start the service once and run the script per protocol with the same load:
+//   ./gradlew bootRun --args='--spring.profiles.active=dev'
+//   k6 run -e PROTOCOL=rest perf/k6/grpc-vs-rest.js
+//   k6 run -e PROTOCOL=grpc perf/k6/grpc-vs-rest.js
+// Compare iteration_duration / http_req_duration / grpc_req_duration p95/p99 and iterations rate.
+import http from 'k6/http';
+import grpc from 'k6/net/grpc';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const GRPC_ADDR = __ENV.GRPC_ADDR || 'localhost:9090';
+const PROTOCOL = __ENV.PROTOCOL || 'grpc';
+const USERS = parseInt(__ENV.USERS || '500');
+const VUS = parseInt(__ENV.VUS || '200');
+const DURATION = __ENV.DURATION || '2m';
+
+const client = new grpc.Client();
+client.load(['../../src/main/proto'], 'user_service.proto');
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { protocol: PROTOCOL },
+};
+
+export function setup() {
+    const ids = [];
+
+    for (let i = 0; i < USERS; i++) {
+        const res = http.post(`${BASE_URL}/users`, JSON.stringify({
+            name: `Grpc${i}`,
+            surname: 'Test',
+            email: `grpc-${Date.now()}-${i}@load.local`,
+            birthDate: '1990-01-01',
+        }), { headers: { 'Content-Type': 'application/json' } });
+
+        if (res.status === 201) {
+            ids.push(res.json('id'));
+        }
+    }
+
+    return { ids };
+}
+
+function pick(ids, count) {
+    const picked = [];
+
+    for (let i = 0; i < count; i++) {
+        picked.push(ids[Math.floor(Math.random() * ids.length)]);
+    }
+
+    return picked;
+}
+
+function restIteration(ids) {
+    const roll = Math.random();
+    let res;
+
+    if (roll < 0.6) {
+        res = http.get(`${BASE_URL}/users/${pick(ids, 1)[0]}?include=cards`, { tags: { name: 'user-by-id' } });
+    } else if (roll < 0.9) {
+        res = http.get(`${BASE_URL}/users?ids=${pick(ids, 20).join(',')}`, { tags: { name: 'users-by-ids' } });
+    } else {
+        res = http.get(`${BASE_URL}/users/${pick(ids, 1)[0]}`, { tags: { name: 'slim-user-by-id' } });
+    }
+
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+function grpcIteration(ids) {
+    const roll = Math.random();
+    let res;
+
+    if (roll < 0.6) {
+        res = client.invoke('innowise.userservice.v1.UserApi/GetById',
+            { id: pick(ids, 1)[0], with_cards: true }, { tags: { name: 'user-by-id' } });
+    } else if (roll < 0.9) {
+        res = client.invoke('innowise.userservice.v1.UserApi/GetByIds',
+            { ids: pick(ids, 20) }, { tags: { name: 'users-by-ids' } });
+    } else {
+        res = client.invoke('innowise.userservice.v1.UserApi/GetById',
+            { id: pick(ids, 1)[0], with_cards: false }, { tags: { name: 'slim-user-by-id' } });
+    }
+
+    check(res, { 'status is OK': (r) => r && r.status === grpc.StatusOK });
+}
+
+export default function (data) {
+    if (PROTOCOL === 'rest') {
+        restIteration(data.ids);
+        return;
+    }
+
+    if (__ITER === 0) {
+        client.connect(GRPC_ADDR, { plaintext: true });
+    }
+
+    grpcIteration(data.ids);
+}
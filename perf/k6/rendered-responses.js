@@ -0,0 +1,86 @@
+// CPU and allocation per request for GET /users/{id}, with and without pre-rendered JSON in Redis.
+// Start the service once per mode and run this script against each:
+//   CACHE_RENDERED_RESPONSES=false ./gradlew bootRun --args='--spring.profiles.active=dev'
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=objects perf/k6/rendered-responses.js
+//   CACHE_RENDERED_RESPONSES=true ./gradlew bootRun --args='--spring.profiles.active=dev'
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=rendered perf/k6/rendered-responses.js
+// The teardown prints allocated bytes per request (jvm.gc.memory.allocated delta / requests)
+// and CPU milliseconds per request (process.cpu.time delta / requests) for the measured phase.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const USERS = parseInt(__ENV.USERS || '500');
+const VUS = parseInt(__ENV.VUS || '100');
+const DURATION = __ENV.DURATION || '2m';
+const INCLUDE = __ENV.INCLUDE || 'cards';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: __ENV.MODE || 'unknown' },
+};
+
+function metric(name) {
+    const res = http.get(`${BASE_URL}/actuator/metrics/${name}`);
+
+    return res.json('measurements').find((m) => m.statistic === 'COUNT').value;
+}
+
+function requestCount() {
+    const uri = encodeURIComponent('/users/{id}');
+    const res = http.get(`${BASE_URL}/actuator/metrics/http.server.requests?tag=uri:${uri}&tag=method:GET`);
+
+    return res.status === 200 ? res.json('measurements').find((m) => m.statistic === 'COUNT').value : 0;
+}
+
+export function setup() {
+    const ids = [];
+
+    for (let i = 0; i < USERS; i++) {
+        const res = http.post(`${BASE_URL}/users`, JSON.stringify({
+            name: `Render${i}`,
+            surname: 'Test',
+            email: `rr-${Date.now()}-${i}@load.local`,
+            birthDate: '1990-01-01',
+        }), { headers: { 'Content-Type': 'application/json' } });
+
+        if (res.status === 201) {
+            ids.push(res.json('id'));
+        }
+    }
+
+    for (const id of ids) {
+        http.get(`${BASE_URL}/users/${id}?include=${INCLUDE}`);
+    }
+
+    return {
+        ids,
+        allocated: metric('jvm.gc.memory.allocated'),
+        cpuTime: metric('process.cpu.time'),
+        requests: requestCount(),
+    };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.get(`${BASE_URL}/users/${id}?include=${INCLUDE}`, { tags: { name: 'user-by-id' } });
+
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function teardown(data) {
+    const requests = requestCount() - data.requests;
+    const allocated = metric('jvm.gc.memory.allocated') - data.allocated;
+    const cpuTime = metric('process.cpu.time') - data.cpuTime;
+
+    console.log(`mode=${__ENV.MODE || 'unknown'} requests=${requests}`
+        + ` allocatedBytesPerRequest=${(allocated / requests).toFixed(0)}`
+        + ` cpuMsPerRequest=${(cpuTime / 1e6 / requests).toFixed(3)}`);
+}
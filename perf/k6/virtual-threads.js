@@ -0,0 +1,68 @@
+// Platform vs virtual thread throughput at high concurrency.
+// Start the service once per mode and run this script against each:
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun --args='--spring.profiles.active=dev'
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=platform perf/k6/virtual-threads.js
+//   VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun --args='--spring.profiles.active=dev'
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=virtual perf/k6/virtual-threads.js
+// perf/k6/compare-virtual-threads.sh runs both modes and writes the comparison table to perf/k6/results/.
+// Compare http_req_duration p95/p99, http_reqs rate and http_req_failed between the two summaries,
+// and db_concurrency_waiting / tomcat_threads_busy_threads from /api/actuator/metrics during the run.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const USERS = parseInt(__ENV.USERS || '1000');
+const VUS = parseInt(__ENV.VUS || '2000');
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS / 4 },
+                { duration: '1m', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: __ENV.MODE || 'unknown' },
+};
+
+export function setup() {
+    const ids = [];
+
+    for (let i = 0; i < USERS; i++) {
+        const res = http.post(`${BASE_URL}/users`, JSON.stringify({
+            name: `Load${i}`,
+            surname: 'Test',
+            email: `vt-${Date.now()}-${i}@load.local`,
+            birthDate: '1990-01-01',
+        }), { headers: { 'Content-Type': 'application/json' } });
+
+        if (res.status === 201) {
+            ids.push(res.json('id'));
+        }
+    }
+
+    return { ids };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const roll = Math.random();
+    let res;
+
+    if (roll < 0.6) {
+        res = http.get(`${BASE_URL}/users/${id}`, { tags: { name: 'user-by-id' } });
+    } else if (roll < 0.9) {
+        res = http.get(`${BASE_URL}/users?name=Load${id % USERS}&size=20`, { tags: { name: 'user-search' } });
+    } else {
+        res = http.get(`${BASE_URL}/cards/user/${id}`, { tags: { name: 'cards-by-user' } });
+    }
+
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# Startup time, RSS and throughput of the JVM jar vs the GraalVM native image.
+# Needs Postgres and Redis running (docker compose up -d db redis), GraalVM 21 as JAVA_HOME and k6.
+#   ./gradlew bootJar
+#   ./gradlew -Pnative nativeCompile
+#   perf/native/compare.sh
+# The two result lines are also written to perf/native/results.txt.
+# Both variants run with the dev profile; the native image keeps the bean set chosen at build time
+# (pass -PaotProfiles=dev to nativeCompile so conditional beans match the JVM run).
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+JAR="${JAR:-$(ls "$ROOT"/build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)}"
+NATIVE="${NATIVE:-$ROOT/build/native/nativeCompile/innowise-user-service}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT/api"
+DURATION="${DURATION:-1m}"
+
+measure() {
+    local name="$1"
+    shift
+
+    local start
+    start=$(date +%s%N)
+    "$@" --spring.profiles.active=dev --server.port="$PORT" > "/tmp/$name.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$name exited during startup, see /tmp/$name.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+
+    local ready_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+    local idle_rss_kb
+    idle_rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    k6 run --quiet -e BASE_URL="$BASE_URL" -e PROTOCOL=rest -e DURATION="$DURATION" -e VUS=100 \
+        --summary-export "/tmp/$name-k6.json" "$ROOT/perf/k6/grpc-vs-rest.js" > /dev/null
+
+    local load_rss_kb
+    load_rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+    local rps p95
+    rps=$(jq '.metrics.iterations.rate' "/tmp/$name-k6.json")
+    p95=$(jq '.metrics.http_req_duration["p(95)"]' "/tmp/$name-k6.json")
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+
+    printf '%-8s ready=%6dms  rss_idle=%7dkB  rss_load=%7dkB  rps=%8.1f  p95=%7.2fms\n' \
+        "$name" "$ready_ms" "$idle_rss_kb" "$load_rss_kb" "$rps" "$p95"
+}
+
+{
+    measure jvm java -jar "$JAR"
+    measure native "$NATIVE"
+} | tee "$ROOT/perf/native/results.txt"
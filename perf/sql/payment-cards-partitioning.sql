@@ -0,0 +1,44 @@
+-- Per-user query and vacuum cost of payment_cards before and after hash partitioning.
+-- Run with psql against a scratch database that has the init schema applied:
+--   psql -v users=2000000 -v cards_per_user=3 -f perf/sql/payment-cards-partitioning.sql
+\set ON_ERROR_STOP on
+\timing on
+
+\if :{?users}
+\else
+\set users 2000000
+\endif
+\if :{?cards_per_user}
+\else
+\set cards_per_user 3
+\endif
+
+TRUNCATE payment_cards, users RESTART IDENTITY CASCADE;
+
+INSERT INTO users (name, surname, birth_date, email, active, created_at, updated_at)
+SELECT 'name' || g, 'surname' || g, DATE '1970-01-01' + (g % 15000), 'user' || g || '@bench.local', true, now(), now()
+FROM generate_series(1, :users) g;
+
+INSERT INTO payment_cards (user_id, number, holder, expiration_date, active, created_at, updated_at)
+SELECT u, lpad((u * 10 + c)::text, 16, '0'), 'name' || u || ' surname' || u,
+       CURRENT_DATE + ((u + c) % 1500) - 300, true, now(), now()
+FROM generate_series(1, :users) u, generate_series(1, :cards_per_user) c;
+
+ANALYZE users;
+ANALYZE payment_cards;
+
+\echo '== per-user lookup'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM payment_cards WHERE user_id = 424242;
+\echo '== card limit check'
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(*) FROM payment_cards WHERE user_id = 424242;
+\echo '== lookup by number'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM payment_cards WHERE number = lpad('4242421', 16, '0');
+
+\echo '== vacuum after touching 5% of cards'
+UPDATE payment_cards SET updated_at = now() WHERE id % 20 = 0;
+VACUUM (VERBOSE) payment_cards;
+
+SELECT relname, pg_size_pretty(pg_total_relation_size(relid)) AS total_size, n_dead_tup
+FROM pg_stat_user_tables
+WHERE relname LIKE 'payment_cards%'
+ORDER BY relname;
@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Container startup with and without the AppCDS archive + Spring AOT classes baked into the image.
+#   docker compose up -d db redis
+#   docker compose build app
+#   perf/startup/measure.sh
+# For each mode the container is started RUNS times; the script prints the Spring "Started ... in"
+# time, wall-clock time until /actuator/health is UP and the latency of the first real request.
+# The lines are also written to perf/startup/results.txt.
+set -euo pipefail
+
+IMAGE="${IMAGE:-$(basename "$(cd "$(dirname "$0")/../.." && pwd)")-app}"
+NETWORK="${NETWORK:-$(basename "$(cd "$(dirname "$0")/../.." && pwd)")_default}"
+PORT="${PORT:-18080}"
+RUNS="${RUNS:-5}"
+BASE_URL="http://localhost:$PORT/api"
+
+run_once() {
+    local cds="$1" aot="$2"
+    local start name
+    name="startup-probe-$$"
+    start=$(date +%s%N)
+
+    docker run -d --rm --name "$name" --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_PROFILES_ACTIVE=docker \
+        -e DB_URL=jdbc:postgresql://db:5432/user_db \
+        -e DB_USERNAME="${DB_USERNAME:-postgres}" \
+        -e DB_PASSWORD="${DB_PASSWORD:-eQ72LCcP2tdQd4oRZYmK}" \
+        -e APPCDS_ENABLED="$cds" \
+        -e SPRING_AOT_ENABLED="$aot" \
+        "$IMAGE" > /dev/null
+
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+        sleep 0.05
+    done
+    local ready_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+
+    local first_ms
+    first_ms=$(curl -s -o /dev/null -w '%{time_total}' "$BASE_URL/users?size=1" | awk '{ printf "%d", $1 * 1000 }')
+
+    local started
+    started=$(docker logs "$name" 2>&1 | sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p')
+    local cds_warnings
+    cds_warnings=$(docker logs "$name" 2>&1 | grep -c '\[cds\]' || true)
+
+    docker stop "$name" > /dev/null
+
+    printf 'appcds=%-5s aot=%-5s started=%6ss  ready=%6dms  first_request=%5dms  cds_warnings=%d\n' \
+        "$cds" "$aot" "$started" "$ready_ms" "$first_ms" "$cds_warnings"
+}
+
+for i in $(seq "$RUNS"); do
+    run_once false false
+    run_once true true
+done | tee "$(dirname "$0")/results.txt"
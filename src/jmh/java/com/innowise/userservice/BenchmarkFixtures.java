@@ -0,0 +1,69 @@
+package com.innowise.userservice;
+
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class BenchmarkFixtures {
+    private static final Instant UPDATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    public static User user(long id, int cards) {
+        User user = User.builder()
+                .id(id)
+                .name("Name" + id)
+                .surname("Surname" + id)
+                .email("user" + id + "@example.com")
+                .birthDate(LocalDate.of(1990, 1, 1).plusDays(id % 10000))
+                .active(true)
+                .paymentCards(new ArrayList<>())
+                .build();
+        user.setCreatedAt(UPDATED_AT);
+        user.setUpdatedAt(UPDATED_AT);
+
+        for (int i = 0; i < cards; i++) {
+            user.getPaymentCards().add(card(id * 10 + i, user));
+        }
+
+        return user;
+    }
+
+    public static PaymentCard card(long id, User user) {
+        PaymentCard card = PaymentCard.builder()
+                .id(id)
+                .number(String.format("4000%012d", id))
+                .holder(user.getName().toUpperCase() + " " + user.getSurname().toUpperCase())
+                .expirationDate(LocalDate.of(2030, 1, 1))
+                .active(true)
+                .user(user)
+                .build();
+        card.setCreatedAt(UPDATED_AT);
+        card.setUpdatedAt(UPDATED_AT);
+
+        return card;
+    }
+
+    public static Page<User> userPage(int size, int cards) {
+        List<User> users = IntStream.range(0, size)
+                .mapToObj(i -> user(i + 1, cards))
+                .toList();
+
+        return new PageImpl<>(users, PageRequest.of(0, size), size * 10L);
+    }
+
+    public static Page<PaymentCard> cardPage(int size) {
+        User owner = user(1, 0);
+        List<PaymentCard> cards = IntStream.range(0, size)
+                .mapToObj(i -> card(i + 1, owner))
+                .toList();
+
+        return new PageImpl<>(cards, PageRequest.of(0, size), size * 10L);
+    }
+}
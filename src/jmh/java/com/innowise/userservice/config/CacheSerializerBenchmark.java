@@ -0,0 +1,60 @@
+package com.innowise.userservice.config;
+
+import com.innowise.userservice.BenchmarkFixtures;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.mapper.PaymentCardMapperImpl;
+import com.innowise.userservice.mapper.UserMapper;
+import com.innowise.userservice.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheSerializerBenchmark {
+
+    @Param({"0", "5"})
+    private int cards;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+    private UserResponseDto user;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = new RedisConfig(new CacheProperties()).cacheValueSerializer();
+
+        try (AnnotationConfigApplicationContext context =
+                     new AnnotationConfigApplicationContext(UserMapperImpl.class, PaymentCardMapperImpl.class)) {
+            user = context.getBean(UserMapper.class).toDto(BenchmarkFixtures.user(1, cards));
+        }
+
+        serialized = serializer.serialize(user);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(user);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(user));
+    }
+}
@@ -0,0 +1,88 @@
+package com.innowise.userservice.mapper;
+
+import com.innowise.userservice.BenchmarkFixtures;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({"0", "5"})
+    private int cards;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private UserMapper userMapper;
+    private PaymentCardMapper paymentCardMapper;
+    private User user;
+    private PaymentCard card;
+    private Page<User> users;
+    private Page<PaymentCard> cardPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(UserMapperImpl.class, PaymentCardMapperImpl.class);
+        userMapper = context.getBean(UserMapper.class);
+        paymentCardMapper = context.getBean(PaymentCardMapper.class);
+
+        user = BenchmarkFixtures.user(1, cards);
+        card = BenchmarkFixtures.card(1, user);
+        users = BenchmarkFixtures.userPage(pageSize, cards);
+        cardPage = BenchmarkFixtures.cardPage(pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponseDto userToDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public UserResponseDto userToSlimDto() {
+        return userMapper.toSlimDto(user);
+    }
+
+    @Benchmark
+    public PaymentCardResponseDto cardToDto() {
+        return paymentCardMapper.toDto(card);
+    }
+
+    @Benchmark
+    public Page<UserResponseDto> userPageToDto() {
+        return userMapper.toDto(users);
+    }
+
+    @Benchmark
+    public Page<UserResponseDto> userPageToSlimDto() {
+        return userMapper.toSlimDto(users);
+    }
+
+    @Benchmark
+    public Page<PaymentCardResponseDto> cardPageToDto() {
+        return paymentCardMapper.toDto(cardPage);
+    }
+}
@@ -0,0 +1,83 @@
+package com.innowise.userservice.service;
+
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpecificationBenchmark {
+
+    private final LocalDate birthDate = LocalDate.of(1990, 1, 1);
+    private final LocalDate expiresAfter = LocalDate.of(2025, 1, 1);
+    private final LocalDate expiresBefore = LocalDate.of(2030, 1, 1);
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(PaymentCard.class)
+                .setProperty(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .setProperty(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate userNoFilters() {
+        return toPredicate(User.class, UserServiceImpl.configureSpecification(null, null, null, null));
+    }
+
+    @Benchmark
+    public Predicate userAllFilters() {
+        return toPredicate(User.class, UserServiceImpl.configureSpecification("John", "Doe", birthDate, true));
+    }
+
+    @Benchmark
+    public Predicate cardNoFilters() {
+        return toPredicate(PaymentCard.class, PaymentCardServiceImpl.configureSpecification(null, null, null));
+    }
+
+    @Benchmark
+    public Predicate cardAllFilters() {
+        return toPredicate(PaymentCard.class,
+                PaymentCardServiceImpl.configureSpecification(true, expiresAfter, expiresBefore));
+    }
+
+    private <T> Predicate toPredicate(Class<T> type, Specification<T> spec) {
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(type);
+        Root<T> root = query.from(type);
+
+        return spec.toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,64 @@
+package com.innowise.userservice.util;
+
+import com.innowise.userservice.dto.request.UserCreateDto;
+import com.innowise.userservice.dto.response.ErrorResponse;
+import com.innowise.userservice.dto.response.ValidationErrorResponse;
+import com.innowise.userservice.exception.UserNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseHelperBenchmark {
+
+    private MockHttpServletRequest request;
+    private UserNotFoundException notFound;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("POST", "/api/users");
+        notFound = new UserNotFoundException("id", "42");
+
+        UserCreateDto target = new UserCreateDto();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(target, "userCreateDto");
+        bindingResult.addError(new FieldError("userCreateDto", "email", "not-an-email", false,
+                null, null, "Email must be valid"));
+        bindingResult.addError(new FieldError("userCreateDto", "name", "", false,
+                null, null, "First name is required"));
+        bindingResult.addError(new FieldError("userCreateDto", "birthDate", null, false,
+                null, null, "Birth date is required"));
+
+        MethodParameter parameter = new MethodParameter(
+                ErrorResponseHelperBenchmark.class.getDeclaredMethod("create", UserCreateDto.class), 0);
+        invalid = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ErrorResponse buildErrorResponse() {
+        return ErrorResponseHelper.buildErrorResponse(notFound, HttpStatus.NOT_FOUND, request);
+    }
+
+    @Benchmark
+    public ValidationErrorResponse buildValidationErrorResponse() {
+        return ErrorResponseHelper.buildValidationErrorResponse(invalid, request);
+    }
+
+    private void create(UserCreateDto userCreateDto) {
+    }
+}
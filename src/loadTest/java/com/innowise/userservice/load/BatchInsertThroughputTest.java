@@ -0,0 +1,191 @@
+package com.innowise.userservice.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+class BatchInsertThroughputTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchInsertThroughputTest.class);
+
+    private static final int BATCH_SIZE = 50;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    private final int rows = Integer.getInteger("loadtest.batch-insert.rows", 20_000);
+    private final double minSpeedup = Double.parseDouble(System.getProperty("loadtest.batch-insert.min-speedup", "5"));
+    private final Path reportDir = LoadTestSettings.fromSystemProperties().reportDir();
+
+    @BeforeEach
+    void createTables() throws SQLException {
+        try (Connection connection = connect(false); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users_identity, users_pooled");
+            statement.execute("DROP SEQUENCE IF EXISTS users_pooled_seq");
+            statement.execute("""
+                    CREATE TABLE users_identity (
+                        id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        name       VARCHAR(64)  NOT NULL,
+                        surname    VARCHAR(64)  NOT NULL,
+                        birth_date DATE         NOT NULL,
+                        email      VARCHAR(128) NOT NULL UNIQUE,
+                        active     BOOLEAN      NOT NULL,
+                        created_at TIMESTAMP    NOT NULL,
+                        updated_at TIMESTAMP    NOT NULL
+                    )""");
+            statement.execute("CREATE TABLE users_pooled (LIKE users_identity INCLUDING ALL)");
+            statement.execute("ALTER TABLE users_pooled ALTER COLUMN id DROP IDENTITY");
+            statement.execute("CREATE SEQUENCE users_pooled_seq INCREMENT BY " + BATCH_SIZE);
+        }
+    }
+
+    @Test
+    void pooledSequenceWithBatching_shouldOutperformIdentityInserts() throws Exception {
+        insertWithIdentity(Math.min(rows, 2_000), "warmup-identity");
+        insertWithPooledSequence(Math.min(rows, 2_000), "warmup-pooled");
+
+        double identity = insertWithIdentity(rows, "identity");
+        double pooled = insertWithPooledSequence(rows, "pooled");
+        double speedup = pooled / identity;
+
+        Result result = new Result(Instant.now(), rows, BATCH_SIZE, identity, pooled, speedup);
+        write(result);
+
+        assertTrue(speedup >= minSpeedup,
+                String.format("pooled+batched %.0f rows/s vs identity %.0f rows/s is only %.1fx", pooled, identity, speedup));
+    }
+
+    private double insertWithIdentity(int count, String prefix) throws SQLException {
+        try (Connection connection = connect(false);
+             PreparedStatement insert = connection.prepareStatement("""
+                     INSERT INTO users_identity (name, surname, birth_date, email, active, created_at, updated_at)
+                     VALUES (?, ?, ?, ?, ?, ?, ?)""", Statement.RETURN_GENERATED_KEYS)) {
+            connection.setAutoCommit(false);
+            long startedAt = System.nanoTime();
+
+            for (int i = 0; i < count; i++) {
+                bind(insert, 1, prefix, i);
+                insert.executeUpdate();
+
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+
+            connection.commit();
+
+            return rowsPerSecond(count, startedAt);
+        }
+    }
+
+    private double insertWithPooledSequence(int count, String prefix) throws SQLException {
+        try (Connection connection = connect(true);
+             PreparedStatement nextBlock = connection.prepareStatement("SELECT nextval('users_pooled_seq')");
+             PreparedStatement insert = connection.prepareStatement("""
+                     INSERT INTO users_pooled (id, name, surname, birth_date, email, active, created_at, updated_at)
+                     VALUES (?, ?, ?, ?, ?, ?, ?, ?)""")) {
+            connection.setAutoCommit(false);
+            long startedAt = System.nanoTime();
+            long nextId = 0;
+            long blockEnd = 0;
+
+            for (int i = 0; i < count; i++) {
+                if (nextId == blockEnd) {
+                    try (ResultSet block = nextBlock.executeQuery()) {
+                        block.next();
+                        nextId = block.getLong(1);
+                        blockEnd = nextId + BATCH_SIZE;
+                    }
+                }
+
+                insert.setLong(1, nextId++);
+                bind(insert, 2, prefix, i);
+                insert.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+
+            insert.executeBatch();
+            connection.commit();
+
+            return rowsPerSecond(count, startedAt);
+        }
+    }
+
+    private static void bind(PreparedStatement insert, int first, String prefix, int i) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+
+        insert.setString(first, "name" + i);
+        insert.setString(first + 1, "surname" + i);
+        insert.setDate(first + 2, Date.valueOf(LocalDate.of(1970, 1, 1).plusDays(i % 15_000)));
+        insert.setString(first + 3, prefix + "-" + i + "@bench.local");
+        insert.setBoolean(first + 4, true);
+        insert.setTimestamp(first + 5, now);
+        insert.setTimestamp(first + 6, now);
+    }
+
+    private static double rowsPerSecond(int count, long startedAt) {
+        return count / ((System.nanoTime() - startedAt) / 1_000_000_000.0);
+    }
+
+    private static Connection connect(boolean rewriteBatchedInserts) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", postgres.getUsername());
+        properties.setProperty("password", postgres.getPassword());
+        properties.setProperty("reWriteBatchedInserts", String.valueOf(rewriteBatchedInserts));
+
+        return DriverManager.getConnection(postgres.getJdbcUrl(), properties);
+    }
+
+    private void write(Result result) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("identity (per-row INSERT ... RETURNING): %10.0f rows/s", result.identityRowsPerSecond()));
+        lines.add(String.format("pooled sequence + batch of %d:          %10.0f rows/s", BATCH_SIZE, result.pooledRowsPerSecond()));
+        lines.add(String.format("speedup:                                 %10.1fx", result.speedup()));
+
+        Files.createDirectories(reportDir);
+        objectMapper.writeValue(reportDir.resolve("batch-inserts.json").toFile(), result);
+        Files.write(reportDir.resolve("batch-inserts.txt"), lines);
+        lines.forEach(log::info);
+    }
+
+    record Result(Instant measuredAt,
+                  int rows,
+                  int batchSize,
+                  double identityRowsPerSecond,
+                  double pooledRowsPerSecond,
+                  double speedup) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.innowise.userservice.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStats {
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    public void record(long latencyNanos, int status, boolean expected) {
+        recorder.recordValue(latencyNanos);
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+
+        if (!expected) {
+            errors.increment();
+        }
+    }
+
+    public Histogram histogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+
+        return counts;
+    }
+}
@@ -0,0 +1,82 @@
+package com.innowise.userservice.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+public class LoadClient {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final String baseUri;
+    private final ObjectMapper objectMapper;
+
+    public LoadClient(String baseUri) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public HttpRequest get(String path) {
+        return builder(path).GET().build();
+    }
+
+    public HttpRequest patch(String path) {
+        return builder(path).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    public HttpRequest post(String path, Object body) {
+        try {
+            return builder(path)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public <T> T exchange(HttpRequest request, TypeReference<T> type) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + new String(response.body()));
+        }
+
+        return objectMapper.readValue(response.body(), type);
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(TIMEOUT)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.innowise.userservice.load;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LoadDriver {
+    private static final int IO_ERROR = -1;
+
+    private final LoadClient client;
+
+    public LoadDriver(LoadClient client) {
+        this.client = client;
+    }
+
+    public LoadResult run(List<LoadScenario> scenarios, Duration duration, int concurrency, long seed) {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> stats.put(scenario.name(), new EndpointStats()));
+
+        int totalWeight = scenarios.stream().mapToInt(LoadScenario::weight).sum();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Random random = new Random(seed + i);
+                executor.submit(() -> drive(scenarios, totalWeight, stats, random, deadline));
+            }
+        }
+
+        return new LoadResult(stats, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void drive(List<LoadScenario> scenarios,
+                       int totalWeight,
+                       Map<String, EndpointStats> stats,
+                       Random random,
+                       long deadline) {
+        while (System.nanoTime() < deadline) {
+            LoadScenario scenario = pick(scenarios, totalWeight, random);
+            HttpRequest request = scenario.request().apply(random);
+            long begin = System.nanoTime();
+            int status;
+
+            try {
+                status = client.send(request);
+            } catch (IOException e) {
+                status = IO_ERROR;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            stats.get(scenario.name()).record(System.nanoTime() - begin, status,
+                    scenario.expectedStatuses().contains(status));
+        }
+    }
+
+    private static LoadScenario pick(List<LoadScenario> scenarios, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+
+        for (LoadScenario scenario : scenarios) {
+            roll -= scenario.weight();
+
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+
+        return scenarios.getLast();
+    }
+}
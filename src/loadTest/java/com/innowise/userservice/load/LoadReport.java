@@ -0,0 +1,135 @@
+package com.innowise.userservice.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record LoadReport(Instant startedAt,
+                         LoadTestSettings settings,
+                         double durationSeconds,
+                         EndpointReport total,
+                         List<EndpointReport> endpoints) {
+
+    public record EndpointReport(String name,
+                                 long requests,
+                                 long errors,
+                                 double errorRate,
+                                 double throughput,
+                                 double meanMs,
+                                 double p50Ms,
+                                 double p99Ms,
+                                 double p999Ms,
+                                 double maxMs,
+                                 Map<Integer, Long> statuses) {
+
+        static EndpointReport of(String name,
+                                 Histogram histogram,
+                                 long errors,
+                                 Map<Integer, Long> statuses,
+                                 double seconds) {
+            long requests = histogram.getTotalCount();
+
+            return new EndpointReport(name,
+                    requests,
+                    errors,
+                    requests == 0 ? 0 : (double) errors / requests,
+                    requests / seconds,
+                    histogram.getMean() / 1_000_000,
+                    millis(histogram, 50),
+                    millis(histogram, 99),
+                    millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1_000_000.0,
+                    statuses);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+    }
+
+    public static LoadReport from(LoadResult result, LoadTestSettings settings, Instant startedAt) {
+        double seconds = result.elapsed().toNanos() / 1_000_000_000.0;
+        Histogram all = new Histogram(3);
+        Map<Integer, Long> allStatuses = new TreeMap<>();
+        long allErrors = 0;
+        List<EndpointReport> endpoints = new ArrayList<>();
+
+        for (Map.Entry<String, EndpointStats> entry : result.stats().entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram histogram = stats.histogram();
+            Map<Integer, Long> statuses = stats.statuses();
+
+            all.add(histogram);
+            allErrors += stats.errors();
+            statuses.forEach((status, count) -> allStatuses.merge(status, count, Long::sum));
+            endpoints.add(EndpointReport.of(entry.getKey(), histogram, stats.errors(), statuses, seconds));
+        }
+
+        return new LoadReport(startedAt, settings, seconds,
+                EndpointReport.of("total", all, allErrors, allStatuses, seconds), endpoints);
+    }
+
+    public void write(Path dir, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(dir);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(dir.resolve("report.json").toFile(), this);
+        Files.writeString(dir.resolve("report.html"), html());
+    }
+
+    private String html() {
+        StringBuilder rows = new StringBuilder();
+        endpoints.forEach(endpoint -> rows.append(row(endpoint, false)));
+        rows.append(row(total, true));
+
+        return """
+                <!DOCTYPE html>
+                <html>
+                <head>
+                <meta charset="utf-8">
+                <title>User service load test</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                tr.total { font-weight: bold; background: #f3f3f3; }
+                td.error { color: #b00020; }
+                </style>
+                </head>
+                <body>
+                <h1>User service load test</h1>
+                <p>Started %s, measured %.1fs, %d workers, %d users, seed %d, p99 budget %d ms</p>
+                <table>
+                <tr><th>Endpoint</th><th>Requests</th><th>Errors</th><th>Req/s</th><th>Mean ms</th><th>p50 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>Max ms</th><th>Statuses</th></tr>
+                %s</table>
+                </body>
+                </html>
+                """.formatted(startedAt, durationSeconds, settings.concurrency(), settings.users(), settings.seed(),
+                settings.p99Budget().toMillis(), rows);
+    }
+
+    private String row(EndpointReport endpoint, boolean isTotal) {
+        return "<tr%s><td>%s</td><td>%d</td><td%s>%d</td><td>%.1f</td><td>%.2f</td><td>%.2f</td><td%s>%.2f</td><td>%.2f</td><td>%.2f</td><td>%s</td></tr>%n"
+                .formatted(isTotal ? " class=\"total\"" : "",
+                        HtmlUtils.htmlEscape(endpoint.name()),
+                        endpoint.requests(),
+                        endpoint.errorRate() > settings.maxErrorRate() ? " class=\"error\"" : "",
+                        endpoint.errors(),
+                        endpoint.throughput(),
+                        endpoint.meanMs(),
+                        endpoint.p50Ms(),
+                        endpoint.p99Ms() > settings.p99Budget().toMillis() ? " class=\"error\"" : "",
+                        endpoint.p99Ms(),
+                        endpoint.p999Ms(),
+                        endpoint.maxMs(),
+                        endpoint.statuses());
+    }
+}
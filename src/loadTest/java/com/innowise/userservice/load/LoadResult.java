@@ -0,0 +1,7 @@
+package com.innowise.userservice.load;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record LoadResult(Map<String, EndpointStats> stats, Duration elapsed) {
+}
@@ -0,0 +1,16 @@
+package com.innowise.userservice.load;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+public record LoadScenario(String name,
+                           int weight,
+                           Set<Integer> expectedStatuses,
+                           Function<Random, HttpRequest> request) {
+
+    public static LoadScenario of(String name, int weight, Function<Random, HttpRequest> request) {
+        return new LoadScenario(name, weight, Set.of(200), request);
+    }
+}
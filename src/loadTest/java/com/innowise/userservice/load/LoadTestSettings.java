@@ -0,0 +1,36 @@
+package com.innowise.userservice.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LoadTestSettings(Duration warmUp,
+                               Duration duration,
+                               int concurrency,
+                               int users,
+                               int cardsPerUser,
+                               int cardTargets,
+                               long seed,
+                               Duration p99Budget,
+                               double maxErrorRate,
+                               Path reportDir) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                duration("loadtest.warmup", "15s"),
+                duration("loadtest.duration", "60s"),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Integer.getInteger("loadtest.users", 2000),
+                Integer.getInteger("loadtest.cards-per-user", 2),
+                Integer.getInteger("loadtest.card-targets", 500),
+                Long.getLong("loadtest.seed", 42L),
+                duration("loadtest.p99-budget", "250ms"),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test")));
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+    }
+}
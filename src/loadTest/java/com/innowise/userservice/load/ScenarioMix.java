@@ -0,0 +1,64 @@
+package com.innowise.userservice.load;
+
+import com.innowise.userservice.dto.request.PaymentCardCreateDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ScenarioMix {
+
+    public static List<LoadScenario> standard(LoadClient client, SyntheticDataset dataset, long seed) {
+        AtomicLong cardNumbers = new AtomicLong(seed * 1_000_000L);
+        AtomicLong cardCursor = new AtomicLong();
+
+        return List.of(
+                LoadScenario.of("GET /users/{id}", 30,
+                        random -> client.get("/users/" + pick(random, dataset.userIds()))),
+                LoadScenario.of("GET /users/{id}?fields", 8,
+                        random -> client.get("/users/" + pick(random, dataset.userIds()) + "?fields=id,email,active")),
+                LoadScenario.of("GET /users/email/{email}", 8,
+                        random -> client.get("/users/email/" + pick(random, dataset.emails()))),
+                LoadScenario.of("GET /users?ids", 6,
+                        random -> client.get("/users?ids=" + ids(random, dataset.userIds(), 20))),
+                LoadScenario.of("GET /users?surname", 6,
+                        random -> client.get("/users?surname=" + pick(random, dataset.surnames())
+                                + "&active=true&page=" + random.nextInt(5) + "&size=20")),
+                LoadScenario.of("GET /cards/user/{userId}", 14,
+                        random -> client.get("/cards/user/" + pick(random, dataset.userIds()))),
+                LoadScenario.of("GET /cards/{id}", 8,
+                        random -> client.get("/cards/" + pick(random, dataset.cardIds()))),
+                LoadScenario.of("GET /cards/users?ids", 4,
+                        random -> client.get("/cards/users?ids=" + ids(random, dataset.userIds(), 20))),
+                LoadScenario.of("GET /cards?active", 4,
+                        random -> client.get("/cards?active=true&expires_before=" + LocalDate.now().plusYears(3)
+                                + "&page=" + random.nextInt(5) + "&size=20")),
+                new LoadScenario("POST /cards", 4, Set.of(201, 409),
+                        random -> client.post("/cards", PaymentCardCreateDto.builder()
+                                .number(String.format("6%015d", cardNumbers.getAndIncrement()))
+                                .expirationDate(LocalDate.now().plusYears(1 + random.nextInt(5)))
+                                .userId(dataset.cardTargetIds().get(
+                                        (int) (cardCursor.getAndIncrement() % dataset.cardTargetIds().size())))
+                                .build())),
+                LoadScenario.of("PATCH /users/{id}/status", 4,
+                        random -> client.patch("/users/" + pick(random, dataset.userIds())
+                                + (random.nextInt(4) == 0 ? "/deactivate" : "/activate"))),
+                LoadScenario.of("PATCH /cards/{id}/status", 4,
+                        random -> client.patch("/cards/" + pick(random, dataset.cardIds())
+                                + (random.nextInt(4) == 0 ? "/deactivate" : "/activate"))));
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String ids(Random random, List<Long> values, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> String.valueOf(pick(random, values)))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,123 @@
+package com.innowise.userservice.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.innowise.userservice.dto.request.BatchRequestDto;
+import com.innowise.userservice.dto.request.PaymentCardCreateDto;
+import com.innowise.userservice.dto.request.UserCreateDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public record SyntheticDataset(List<Long> userIds,
+                               List<String> emails,
+                               List<String> surnames,
+                               List<Long> cardIds,
+                               List<Long> cardTargetIds) {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String[] NAMES = {"Anna", "Ivan", "Olga", "Pavel", "Maria", "Dmitry", "Elena", "Sergey",
+            "Irina", "Alexey", "Natalia", "Mikhail", "Tatiana", "Andrey", "Svetlana", "Nikolai"};
+
+    private static final String[] SURNAMES = {"Ivanov", "Petrov", "Sidorov", "Smirnov", "Kuznetsov", "Popov",
+            "Vasiliev", "Sokolov", "Mikhailov", "Novikov", "Fedorov", "Morozov", "Volkov", "Alekseev"};
+
+    private static final TypeReference<List<BatchItemResultDto<UserResponseDto>>> USER_RESULTS =
+            new TypeReference<>() {
+            };
+
+    private static final TypeReference<List<BatchItemResultDto<PaymentCardResponseDto>>> CARD_RESULTS =
+            new TypeReference<>() {
+            };
+
+    public static SyntheticDataset seed(LoadClient client, LoadTestSettings settings)
+            throws IOException, InterruptedException {
+        Random random = new Random(settings.seed());
+
+        List<UserResponseDto> users = createUsers(client, random, settings.seed(), 0, settings.users());
+        List<UserResponseDto> targets = createUsers(client, random, settings.seed(), settings.users(),
+                settings.cardTargets());
+
+        List<PaymentCardCreateDto> cards = new ArrayList<>();
+        long cardNumber = settings.seed() * 1_000_000L;
+
+        for (UserResponseDto user : users) {
+            for (int i = 0; i < settings.cardsPerUser(); i++) {
+                cards.add(PaymentCardCreateDto.builder()
+                        .number(String.format("4%015d", cardNumber++))
+                        .expirationDate(LocalDate.now().plusMonths(6).plusDays(random.nextInt(3650)))
+                        .userId(user.getId())
+                        .build());
+            }
+        }
+
+        List<Long> cardIds = new ArrayList<>();
+
+        for (List<PaymentCardCreateDto> chunk : chunks(cards)) {
+            for (BatchItemResultDto<PaymentCardResponseDto> result : client.exchange(
+                    client.post("/cards/batch", new BatchRequestDto<>(chunk)), CARD_RESULTS)) {
+                cardIds.add(created(result).getId());
+            }
+        }
+
+        return new SyntheticDataset(
+                users.stream().map(UserResponseDto::getId).toList(),
+                users.stream().map(UserResponseDto::getEmail).toList(),
+                users.stream().map(UserResponseDto::getSurname).distinct().toList(),
+                List.copyOf(cardIds),
+                targets.stream().map(UserResponseDto::getId).toList());
+    }
+
+    private static List<UserResponseDto> createUsers(LoadClient client,
+                                                     Random random,
+                                                     long seed,
+                                                     int offset,
+                                                     int count) throws IOException, InterruptedException {
+        List<UserCreateDto> users = new ArrayList<>();
+
+        for (int i = offset; i < offset + count; i++) {
+            users.add(UserCreateDto.builder()
+                    .name(NAMES[random.nextInt(NAMES.length)])
+                    .surname(SURNAMES[random.nextInt(SURNAMES.length)])
+                    .birthDate(LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20000)))
+                    .email("load-" + seed + "-" + i + "@example.com")
+                    .build());
+        }
+
+        List<UserResponseDto> created = new ArrayList<>();
+
+        for (List<UserCreateDto> chunk : chunks(users)) {
+            for (BatchItemResultDto<UserResponseDto> result : client.exchange(
+                    client.post("/users/batch", new BatchRequestDto<>(chunk)), USER_RESULTS)) {
+                created.add(created(result));
+            }
+        }
+
+        return created;
+    }
+
+    private static <T> T created(BatchItemResultDto<T> result) {
+        if (result.getItem() == null) {
+            throw new IllegalStateException("Seeding failed at item " + result.getIndex() + ": "
+                    + result.getStatus() + " " + result.getMessage());
+        }
+
+        return result.getItem();
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i += BATCH_SIZE) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + BATCH_SIZE)));
+        }
+
+        return chunks;
+    }
+}
@@ -0,0 +1,70 @@
+package com.innowise.userservice.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.org.hibernate.SQL=INFO")
+@ActiveProfiles("loadtest")
+@Testcontainers(disabledWithoutDocker = true)
+class UserServiceLoadTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Container
+    @ServiceConnection
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:7").
+            withExposedPorts(6379);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Test
+    void mixedWorkload_shouldStayWithinLatencyAndErrorBudgets() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadClient client = new LoadClient("http://localhost:" + port + contextPath);
+
+        SyntheticDataset dataset = SyntheticDataset.seed(client, settings);
+        List<LoadScenario> scenarios = ScenarioMix.standard(client, dataset, settings.seed());
+        LoadDriver driver = new LoadDriver(client);
+
+        driver.run(scenarios, settings.warmUp(), settings.concurrency(), settings.seed());
+
+        Instant startedAt = Instant.now();
+        LoadResult result = driver.run(scenarios, settings.duration(), settings.concurrency(), settings.seed());
+        LoadReport report = LoadReport.from(result, settings, startedAt);
+        report.write(settings.reportDir(), client.objectMapper());
+
+        assertAll(report.endpoints().stream()
+                .flatMap(endpoint -> budgets(endpoint, settings).stream()));
+    }
+
+    private static List<Executable> budgets(LoadReport.EndpointReport endpoint, LoadTestSettings settings) {
+        return List.of(
+                () -> assertTrue(endpoint.requests() > 0, endpoint.name() + " was never called"),
+                () -> assertTrue(endpoint.errorRate() <= settings.maxErrorRate(),
+                        endpoint.name() + " error rate " + endpoint.errorRate() + " " + endpoint.statuses()),
+                () -> assertTrue(endpoint.p99Ms() <= settings.p99Budget().toMillis(),
+                        endpoint.name() + " p99 " + endpoint.p99Ms() + "ms over budget"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.innowise.userservice.load.data;
+
+import com.innowise.userservice.config.CardProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+public record GeneratorOptions(String url,
+                               String username,
+                               String password,
+                               long users,
+                               long seed,
+                               double meanCards,
+                               int maxCards,
+                               LocalDate asOf,
+                               int threads,
+                               int chunkSize,
+                               boolean truncate) {
+
+    public static GeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return new GeneratorOptions(
+                values.getOrDefault("url", env("DB_URL", "jdbc:postgresql://localhost:5432/innowise_user_service_db")),
+                values.getOrDefault("username", env("DB_USERNAME", "postgres")),
+                values.getOrDefault("password", env("DB_PASSWORD", "postgres")),
+                Long.parseLong(values.getOrDefault("users", "1000000")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Double.parseDouble(values.getOrDefault("mean-cards", "1.6")),
+                values.containsKey("max-cards") ? Integer.parseInt(values.get("max-cards")) : configuredMaxCards(),
+                values.containsKey("as-of") ? LocalDate.parse(values.get("as-of")) : LocalDate.now(),
+                Integer.parseInt(values.getOrDefault("threads",
+                        String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Integer.parseInt(values.getOrDefault("chunk-size", "50000")),
+                Boolean.parseBoolean(values.getOrDefault("truncate", "false")));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+
+        return value != null ? value : defaultValue;
+    }
+
+    private static int configuredMaxCards() {
+        try {
+            StandardEnvironment environment = new StandardEnvironment();
+            new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yml"))
+                    .forEach(environment.getPropertySources()::addLast);
+
+            return new Binder(ConfigurationPropertySources.get(environment))
+                    .bind("user.card", CardProperties.class)
+                    .map(CardProperties::getMaxLimit)
+                    .orElse(5);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.innowise.userservice.load.data;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.SplittableRandom;
+
+public class RowGenerator {
+    private static final String[] FIRST_NAMES = {"Alexander", "Maria", "Ivan", "Anna", "Dmitry", "Elena",
+            "Sergey", "Olga", "Andrey", "Natalia", "Alexey", "Tatiana", "Mikhail", "Irina", "Nikolai", "Svetlana",
+            "Pavel", "Ekaterina", "Artem", "Yulia", "Maxim", "Anastasia", "Denis", "Daria", "Kirill", "Polina",
+            "Egor", "Sofia", "Roman", "Victoria", "Vladimir", "Ksenia", "John", "Emma", "Michael", "Olivia",
+            "David", "Sophie", "Lukas", "Mia", "Jan", "Zuzanna", "Piotr", "Agnieszka", "Tomasz", "Katarzyna"};
+
+    private static final String[] SURNAMES = {"Ivanov", "Smirnov", "Kuznetsov", "Popov", "Vasiliev", "Petrov",
+            "Sokolov", "Mikhailov", "Novikov", "Fedorov", "Morozov", "Volkov", "Alekseev", "Lebedev", "Semenov",
+            "Egorov", "Pavlov", "Kozlov", "Stepanov", "Nikolaev", "Orlov", "Andreev", "Makarov", "Nikitin",
+            "Zakharov", "Zaitsev", "Soloviev", "Borisov", "Yakovlev", "Grigoriev", "Romanov", "Vorobiev",
+            "Smith", "Johnson", "Williams", "Brown", "Mueller", "Schmidt", "Nowak", "Kowalski", "Wisniewski",
+            "Novak", "Horvat", "Kovalenko", "Bondarenko", "Shevchenko", "Tkachenko", "Kravchenko"};
+
+    private static final String[] DOMAINS = {"gmail.com", "yandex.ru", "mail.ru", "outlook.com", "icloud.com",
+            "proton.me", "yahoo.com", "tut.by", "innowise.com", "example.org"};
+
+    private static final String[] CARD_PREFIXES = {"4", "51", "52", "53", "54", "55", "2221", "2720", "37"};
+
+    private final long seed;
+    private final double meanCards;
+    private final int maxCards;
+    private final LocalDate asOf;
+    private final double cardSkew;
+    private final long cardIdOffset;
+
+    public RowGenerator(long seed, double meanCards, int maxCards, LocalDate asOf, long cardIdOffset) {
+        this.seed = seed;
+        this.meanCards = meanCards;
+        this.maxCards = maxCards;
+        this.asOf = asOf;
+        this.cardSkew = 1.0 / (meanCards + 1.0);
+        this.cardIdOffset = cardIdOffset;
+    }
+
+    public int appendUser(long id, StringBuilder users, StringBuilder cards) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + id);
+
+        String name = skewed(random, FIRST_NAMES);
+        String surname = skewed(random, SURNAMES);
+        LocalDate birthDate = asOf.minusYears(18).minusDays(random.nextInt(365 * 62));
+        boolean active = random.nextInt(100) < 94;
+        LocalDateTime createdAt = asOf.atStartOfDay().minusSeconds(random.nextLong(5L * 365 * 24 * 3600));
+        LocalDateTime updatedAt = updatedAfter(random, createdAt);
+
+        users.append(id).append('\t')
+                .append(name).append('\t')
+                .append(surname).append('\t')
+                .append(birthDate).append('\t')
+                .append(email(random, id, name, surname)).append('\t')
+                .append(active ? 't' : 'f').append('\t')
+                .append(createdAt).append('\t')
+                .append(updatedAt).append('\n');
+
+        int count = cardCount(random);
+        String holder = name.toUpperCase() + " " + surname.toUpperCase();
+
+        for (int i = 0; i < count; i++) {
+            long cardId = cardIdOffset + id * maxCards + i;
+            LocalDate expirationDate = asOf.plusDays(random.nextInt(-2 * 365, 6 * 365)).withDayOfMonth(1);
+            boolean cardActive = active && !expirationDate.isBefore(asOf) && random.nextInt(100) < 92;
+            LocalDateTime cardCreatedAt = createdAt.plusSeconds(
+                    random.nextLong(Math.max(1, Duration.between(createdAt, updatedAt).toSeconds() + 1)));
+
+            cards.append(cardId).append('\t')
+                    .append(id).append('\t')
+                    .append(cardNumber(random, cardId)).append('\t')
+                    .append(holder).append('\t')
+                    .append(expirationDate).append('\t')
+                    .append(cardActive ? 't' : 'f').append('\t')
+                    .append(cardCreatedAt).append('\t')
+                    .append(updatedAfter(random, cardCreatedAt)).append('\n');
+        }
+
+        return count;
+    }
+
+    public long maxCardId(long maxUserId) {
+        return cardIdOffset + maxUserId * maxCards + maxCards - 1;
+    }
+
+    int cardCount(SplittableRandom random) {
+        if (meanCards <= 0) {
+            return 0;
+        }
+
+        int count = (int) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - cardSkew));
+
+        return Math.min(count, maxCards);
+    }
+
+    private LocalDateTime updatedAfter(SplittableRandom random, LocalDateTime createdAt) {
+        if (random.nextInt(100) < 60) {
+            return createdAt;
+        }
+
+        long window = Math.max(1, Duration.between(createdAt, asOf.atTime(LocalTime.MIDNIGHT)).toSeconds());
+
+        return createdAt.plusSeconds(random.nextLong(window));
+    }
+
+    private static String email(SplittableRandom random, long id, String name, String surname) {
+        String first = name.toLowerCase();
+        String last = surname.toLowerCase();
+        String local = switch (random.nextInt(5)) {
+            case 0 -> first + "." + last;
+            case 1 -> first.charAt(0) + last;
+            case 2 -> last + "_" + first;
+            case 3 -> first + last.charAt(0);
+            default -> first + "." + last.charAt(0);
+        };
+
+        return local + "." + Long.toString(id, 36) + "@" + skewed(random, DOMAINS);
+    }
+
+    private static String cardNumber(SplittableRandom random, long cardId) {
+        String prefix = CARD_PREFIXES[random.nextInt(CARD_PREFIXES.length)];
+        String suffix = Long.toString(cardId);
+
+        return prefix + "0".repeat(Math.max(0, 16 - prefix.length() - suffix.length())) + suffix;
+    }
+
+    private static String skewed(SplittableRandom random, String[] values) {
+        double r = random.nextDouble();
+
+        return values[(int) (r * r * values.length)];
+    }
+}
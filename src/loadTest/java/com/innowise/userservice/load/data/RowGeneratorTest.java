@@ -0,0 +1,110 @@
+package com.innowise.userservice.load.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowGeneratorTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void appendUser_shouldBeDeterministicPerSeedAndId_regardlessOfChunking() {
+        RowGenerator first = new RowGenerator(7, 1.6, 5, AS_OF, 0);
+        RowGenerator second = new RowGenerator(7, 1.6, 5, AS_OF, 0);
+        RowGenerator otherSeed = new RowGenerator(8, 1.6, 5, AS_OF, 0);
+
+        String chunk = render(first, 1, 500);
+
+        assertEquals(chunk, render(second, 1, 500));
+        assertNotEquals(chunk, render(otherSeed, 1, 500));
+        assertTrue(chunk.contains(render(second, 300, 300)));
+    }
+
+    @Test
+    void appendUser_shouldProduceUniqueEmailsAndCardNumbers_withinCardLimit() {
+        RowGenerator generator = new RowGenerator(42, 1.6, 5, AS_OF, 0);
+        StringBuilder users = new StringBuilder();
+        StringBuilder cards = new StringBuilder();
+
+        for (long id = 1; id <= 20_000; id++) {
+            int count = generator.appendUser(id, users, cards);
+            assertTrue(count >= 0 && count <= 5);
+        }
+
+        List<String[]> userRows = rows(users);
+        List<String[]> cardRows = rows(cards);
+
+        assertEquals(20_000, userRows.size());
+        assertEquals(userRows.size(), unique(userRows, 4).size());
+        assertEquals(cardRows.size(), unique(cardRows, 0).size());
+        assertEquals(cardRows.size(), unique(cardRows, 2).size());
+        assertTrue(cardRows.size() > 20_000 && cardRows.size() < 45_000);
+    }
+
+    @Test
+    void appendUser_shouldStartCardIdsAboveOffset() {
+        RowGenerator generator = new RowGenerator(42, 1.6, 5, AS_OF, 1_000);
+        StringBuilder users = new StringBuilder();
+        StringBuilder cards = new StringBuilder();
+
+        for (long id = 1; id <= 1_000; id++) {
+            generator.appendUser(id, users, cards);
+        }
+
+        assertTrue(rows(cards).stream().allMatch(row -> {
+            long cardId = Long.parseLong(row[0]);
+            return cardId >= 1_005 && cardId <= generator.maxCardId(1_000);
+        }));
+    }
+
+    @Test
+    void cardCount_shouldBeSkewedTowardsFewCards() {
+        RowGenerator generator = new RowGenerator(42, 1.6, 5, AS_OF, 0);
+        SplittableRandom random = new SplittableRandom(1);
+        int[] histogram = new int[6];
+
+        for (int i = 0; i < 100_000; i++) {
+            histogram[generator.cardCount(random)]++;
+        }
+
+        assertTrue(histogram[0] > histogram[2]);
+        assertTrue(histogram[1] > histogram[3]);
+        assertTrue(histogram[3] > histogram[4]);
+        assertTrue(histogram[5] > 0);
+    }
+
+    private static String render(RowGenerator generator, long from, long to) {
+        StringBuilder rows = new StringBuilder();
+
+        for (long id = from; id <= to; id++) {
+            StringBuilder cards = new StringBuilder();
+            generator.appendUser(id, rows, cards);
+            rows.append(cards);
+        }
+
+        return rows.toString();
+    }
+
+    private static List<String[]> rows(StringBuilder rows) {
+        return Arrays.stream(rows.toString().split("\n"))
+                .map(row -> row.split("\t"))
+                .toList();
+    }
+
+    private static Set<String> unique(List<String[]> rows, int column) {
+        Set<String> values = new HashSet<>();
+        rows.forEach(row -> values.add(row[column]));
+
+        return values;
+    }
+}
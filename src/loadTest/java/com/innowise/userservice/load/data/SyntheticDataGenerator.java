@@ -0,0 +1,164 @@
+package com.innowise.userservice.load.data;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SyntheticDataGenerator {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String COPY_USERS =
+            "COPY users (id, name, surname, birth_date, email, active, created_at, updated_at) FROM STDIN";
+
+    private static final String COPY_CARDS =
+            "COPY payment_cards (id, user_id, number, holder, expiration_date, active, created_at, updated_at) FROM STDIN";
+
+    private static final int COPY_BUFFER = 1 << 20;
+
+    private final GeneratorOptions options;
+    private final AtomicLong usersLoaded = new AtomicLong();
+    private final AtomicLong cardsLoaded = new AtomicLong();
+
+    public SyntheticDataGenerator(GeneratorOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new SyntheticDataGenerator(GeneratorOptions.parse(args)).run();
+    }
+
+    public void run() throws SQLException, InterruptedException, ExecutionException {
+        IdStart ids = prepare();
+        RowGenerator rows = new RowGenerator(options.seed(), options.meanCards(), options.maxCards(), options.asOf(),
+                ids.cardIdOffset());
+        long firstId = ids.userId();
+        long lastId = firstId + options.users() - 1;
+        long started = System.nanoTime();
+
+        log.info("Generating {} users (ids {}..{}) with seed {}, mean {} cards capped at {}, as of {}, {} threads",
+                options.users(), firstId, lastId, options.seed(), options.meanCards(), options.maxCards(),
+                options.asOf(), options.threads());
+
+        List<Future<?>> chunks = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(options.threads())) {
+            for (long start = firstId; start <= lastId; start += options.chunkSize()) {
+                long from = start;
+                long to = Math.min(lastId, start + options.chunkSize() - 1);
+                chunks.add(executor.submit(() -> {
+                    loadChunk(rows, from, to);
+                    return null;
+                }));
+            }
+
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+                logProgress(started);
+            }
+        }
+
+        finish();
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        log.info("Loaded {} users and {} cards in {}s ({} rows/s)", usersLoaded.get(), cardsLoaded.get(),
+                String.format("%.1f", seconds),
+                String.format("%.0f", (usersLoaded.get() + cardsLoaded.get()) / seconds));
+    }
+
+    private IdStart prepare() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            if (options.truncate()) {
+                log.info("Truncating users and payment_cards");
+                statement.execute("TRUNCATE payment_cards, users CASCADE");
+            }
+
+            long userId = reserve(statement, "pg_get_serial_sequence('users', 'id')", "users", options.users());
+            long cardId = reserve(statement, "'payment_cards_seq'", "payment_cards",
+                    options.users() * options.maxCards());
+
+            return new IdStart(userId, cardId - userId * options.maxCards());
+        }
+    }
+
+    private static long reserve(Statement statement, String sequence, String table, long count) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT setval(" + sequence + ", GREATEST("
+                + "COALESCE(pg_sequence_last_value(" + sequence + "::regclass), 0), "
+                + "(SELECT COALESCE(MAX(id), 0) FROM " + table + ")) + " + count + ")")) {
+            resultSet.next();
+
+            return resultSet.getLong(1) - count + 1;
+        }
+    }
+
+    private void loadChunk(RowGenerator rows, long from, long to) throws SQLException, IOException {
+        StringBuilder users = new StringBuilder((int) (to - from + 1) * 120);
+        StringBuilder cards = new StringBuilder((int) (to - from + 1) * 200);
+        long chunkCards = 0;
+
+        for (long id = from; id <= to; id++) {
+            chunkCards += rows.appendUser(id, users, cards);
+        }
+
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL synchronous_commit = off");
+            }
+
+            PGConnection pg = connection.unwrap(PGConnection.class);
+            copy(pg, COPY_USERS, users);
+            copy(pg, COPY_CARDS, cards);
+            connection.commit();
+        }
+
+        usersLoaded.addAndGet(to - from + 1);
+        cardsLoaded.addAndGet(chunkCards);
+    }
+
+    private static void copy(PGConnection pg, String sql, StringBuilder rows) throws SQLException, IOException {
+        try (OutputStream out = new PGCopyOutputStream(pg, sql, COPY_BUFFER)) {
+            out.write(rows.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void finish() throws SQLException {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users");
+            statement.execute("ANALYZE payment_cards");
+        }
+    }
+
+    private void logProgress(long started) {
+        long users = usersLoaded.get();
+        double seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+
+        log.info("{}/{} users, {} cards, {} rows/s", users, options.users(), cardsLoaded.get(),
+                String.format("%.0f", (users + cardsLoaded.get()) / seconds));
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(options.url(), options.username(), options.password());
+    }
+
+    private record IdStart(long userId, long cardIdOffset) {
+    }
+}
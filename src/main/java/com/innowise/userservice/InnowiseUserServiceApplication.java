@@ -1,15 +1,32 @@
 package com.innowise.userservice;
 
+import com.innowise.userservice.config.AdmissionProperties;
+import com.innowise.userservice.config.ArchiveProperties;
+import com.innowise.userservice.config.BatchProperties;
 import com.innowise.userservice.config.CacheProperties;
 import com.innowise.userservice.config.CardProperties;
+import com.innowise.userservice.config.ClientIdentityProperties;
+import com.innowise.userservice.config.DbConcurrencyProperties;
+import com.innowise.userservice.config.IdempotencyProperties;
+import com.innowise.userservice.config.LoaderProperties;
+import com.innowise.userservice.config.SlowQueryProperties;
+import com.innowise.userservice.config.SqlMonitoringProperties;
+import com.innowise.userservice.config.TracingProperties;
+import com.innowise.userservice.config.WarmUpProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties({CardProperties.class, CacheProperties.class})
+@EnableConfigurationProperties({CardProperties.class, CacheProperties.class, ArchiveProperties.class,
+        SqlMonitoringProperties.class, BatchProperties.class, DbConcurrencyProperties.class,
+        LoaderProperties.class, AdmissionProperties.class, IdempotencyProperties.class,
+        WarmUpProperties.class, TracingProperties.class, SlowQueryProperties.class,
+        ClientIdentityProperties.class})
 @EnableCaching
+@EnableScheduling
 public class InnowiseUserServiceApplication {
 
     public static void main(String[] args) {
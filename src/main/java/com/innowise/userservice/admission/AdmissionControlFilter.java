@@ -0,0 +1,104 @@
+package com.innowise.userservice.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.config.AdmissionProperties;
+import com.innowise.userservice.config.ClientIdentityProperties;
+import com.innowise.userservice.exception.ServiceUnavailableException;
+import com.innowise.userservice.exception.TooManyRequestsException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import static com.innowise.userservice.util.ClientIdentityHelper.clientId;
+import static com.innowise.userservice.util.ErrorResponseHelper.buildErrorResponse;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final AdmissionController admissionController;
+    private final AdmissionProperties properties;
+    private final ClientIdentityProperties clientIdentityProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return path(request).startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String endpointClass = classify(request);
+        String client = clientId(request, clientIdentityProperties);
+        AdmissionController.Decision decision = admissionController.tryAcquire(endpointClass, client);
+
+        if (decision != AdmissionController.Decision.ADMITTED) {
+            reject(request, response, decision);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            admissionController.release(endpointClass, client, System.nanoTime() - start, dropped);
+        }
+    }
+
+    private String classify(HttpServletRequest request) {
+        String path = path(request);
+
+        if (path.endsWith("/batch") || path.contains("/batch/") || path.equals("/cards/users")
+                || (path.equals("/users") && request.getParameter("ids") != null)) {
+            return AdmissionController.BATCH_CLASS;
+        }
+
+        if ("GET".equals(request.getMethod()) && (path.equals("/users") || path.equals("/cards"))) {
+            return AdmissionController.SEARCH_CLASS;
+        }
+
+        return AdmissionController.DEFAULT_CLASS;
+    }
+
+    private void reject(HttpServletRequest request,
+                        HttpServletResponse response,
+                        AdmissionController.Decision decision) throws IOException {
+        boolean clientLimited = decision == AdmissionController.Decision.CLIENT_LIMITED;
+        HttpStatus status = clientLimited ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        RuntimeException error = clientLimited
+                ? new TooManyRequestsException("Too many concurrent requests from this client")
+                : new ServiceUnavailableException("Service is overloaded");
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(properties.getRetryAfter().toMillis() / 1000.0));
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                buildErrorResponse(error, status, request));
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,107 @@
+package com.innowise.userservice.admission;
+
+import com.innowise.userservice.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true")
+public class AdmissionController {
+
+    public static final String DEFAULT_CLASS = "default";
+    public static final String SEARCH_CLASS = "search";
+    public static final String BATCH_CLASS = "batch";
+
+    public enum Decision { ADMITTED, CLIENT_LIMITED, OVERLOADED }
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AimdLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Integer> clientInFlight = new ConcurrentHashMap<>();
+
+    public AdmissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Decision tryAcquire(String endpointClass, String client) {
+        AimdLimit limit = limit(endpointClass);
+        int clientLimit = Math.max(1, (int) Math.ceil(limit.getLimit() * properties.getClientShare()));
+        boolean[] clientAdmitted = new boolean[1];
+
+        clientInFlight.compute(clientKey(endpointClass, client), (key, current) -> {
+            int inFlight = current == null ? 0 : current;
+
+            if (inFlight >= clientLimit) {
+                return current;
+            }
+
+            clientAdmitted[0] = true;
+
+            return inFlight + 1;
+        });
+
+        if (!clientAdmitted[0]) {
+            reject(endpointClass, Decision.CLIENT_LIMITED);
+            return Decision.CLIENT_LIMITED;
+        }
+
+        if (!limit.tryAcquire()) {
+            releaseClient(endpointClass, client);
+            reject(endpointClass, Decision.OVERLOADED);
+            return Decision.OVERLOADED;
+        }
+
+        return Decision.ADMITTED;
+    }
+
+    public void release(String endpointClass, String client, long latencyNanos, boolean dropped) {
+        limit(endpointClass).release(latencyNanos, dropped);
+        releaseClient(endpointClass, client);
+    }
+
+    private void releaseClient(String endpointClass, String client) {
+        clientInFlight.computeIfPresent(clientKey(endpointClass, client),
+                (key, current) -> current <= 1 ? null : current - 1);
+    }
+
+    private AimdLimit limit(String endpointClass) {
+        return limits.computeIfAbsent(endpointClass, this::register);
+    }
+
+    private AimdLimit register(String endpointClass) {
+        AdmissionProperties.EndpointClass config = properties.getClasses()
+                .getOrDefault(endpointClass, new AdmissionProperties.EndpointClass());
+        AimdLimit limit = new AimdLimit(config);
+
+        Gauge.builder("http.server.admission.limit", limit, AimdLimit::getLimit)
+                .description("Current adaptive concurrency limit of the endpoint class")
+                .tag("class", endpointClass)
+                .register(meterRegistry);
+        Gauge.builder("http.server.admission.inflight", limit, AimdLimit::getInFlight)
+                .description("Admitted requests in flight for the endpoint class")
+                .tag("class", endpointClass)
+                .register(meterRegistry);
+
+        return limit;
+    }
+
+    private void reject(String endpointClass, Decision decision) {
+        Counter.builder("http.server.admission.rejected")
+                .description("Requests shed by admission control")
+                .tag("class", endpointClass)
+                .tag("reason", decision == Decision.CLIENT_LIMITED ? "client" : "overload")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String clientKey(String endpointClass, String client) {
+        return endpointClass + '|' + client;
+    }
+}
@@ -0,0 +1,49 @@
+package com.innowise.userservice.admission;
+
+import com.innowise.userservice.config.AdmissionProperties;
+
+public class AimdLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private int limit;
+    private int inFlight;
+
+    public AimdLimit(AdmissionProperties.EndpointClass endpointClass) {
+        this.minLimit = endpointClass.getMinLimit();
+        this.maxLimit = endpointClass.getMaxLimit();
+        this.latencyThresholdNanos = endpointClass.getLatencyThreshold().toNanos();
+        this.backoffRatio = endpointClass.getBackoffRatio();
+        this.limit = Math.clamp(endpointClass.getInitialLimit(), minLimit, maxLimit);
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            return false;
+        }
+
+        inFlight++;
+
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos, boolean dropped) {
+        inFlight--;
+
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
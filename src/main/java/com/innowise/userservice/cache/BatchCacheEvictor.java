@@ -0,0 +1,33 @@
+package com.innowise.userservice.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class BatchCacheEvictor {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void evict(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        String prefix = CacheKeyPrefix.simple().compute(cacheName);
+        List<String> redisKeys = keys.stream()
+                .map(key -> prefix + key)
+                .toList();
+
+        redisTemplate.delete(redisKeys);
+    }
+
+    public void evictAfterCommit(String cacheName, Collection<?> keys) {
+        RedisBatchCache.afterCommit(() -> evict(cacheName, keys));
+    }
+}
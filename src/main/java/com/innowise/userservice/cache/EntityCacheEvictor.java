@@ -0,0 +1,39 @@
+package com.innowise.userservice.cache;
+
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class EntityCacheEvictor {
+
+    private static final String USER_PAYMENT_CARDS_ROLE = User.class.getName() + ".paymentCards";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictCards(Collection<Long> cardIds) {
+        Cache cache = cache();
+
+        cardIds.forEach(id -> cache.evictEntityData(PaymentCard.class, id));
+    }
+
+    public void evictUsersWithCards(Collection<Long> userIds, Collection<Long> cardIds) {
+        Cache cache = cache();
+
+        userIds.forEach(id -> {
+            cache.evictEntityData(User.class, id);
+            cache.evictCollectionData(USER_PAYMENT_CARDS_ROLE, id);
+        });
+        cardIds.forEach(id -> cache.evictEntityData(PaymentCard.class, id));
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
@@ -0,0 +1,172 @@
+package com.innowise.userservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.config.IdempotencyProperties;
+import com.innowise.userservice.exception.BadRequestException;
+import com.innowise.userservice.exception.IdempotencyKeyInUseException;
+import com.innowise.userservice.exception.IdempotencyKeyReusedException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String SHARED_CLIENT = "shared";
+
+    private static final String OWNED = """
+            local current = redis.call('GET', KEYS[1])
+            if not current or cjson.decode(current)['owner'] ~= ARGV[1] then
+                return 0
+            end
+            """;
+    private static final RedisScript<Long> COMPLETE = RedisScript.of(OWNED + """
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1""", Long.class);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(OWNED + """
+            return redis.call('DEL', KEYS[1])""", Long.class);
+    private static final RedisScript<Long> EXTEND = RedisScript.of(OWNED + """
+            return redis.call('PEXPIRE', KEYS[1], ARGV[2])""", Long.class);
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final GenericJackson2JsonRedisSerializer cacheValueSerializer;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("idempotency-heartbeat")
+            .daemon()
+            .factory());
+
+    public <T> ResponseEntity<T> execute(String scope,
+                                         String client,
+                                         String key,
+                                         Object request,
+                                         HttpStatus status,
+                                         Class<T> type,
+                                         Supplier<T> action) {
+        if (key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+            throw new BadRequestException(IDEMPOTENCY_KEY_HEADER + " must be 1-"
+                    + properties.getMaxKeyLength() + " characters long");
+        }
+
+        String redisKey = CacheKeyPrefix.simple().compute("idempotency") + scope + ":" + client + ":" + key;
+        String fingerprint = fingerprint(request);
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            String owner = UUID.randomUUID().toString();
+            IdempotentResponse pending = new IdempotentResponse(false, owner, fingerprint, 0, null);
+
+            if (Boolean.TRUE.equals(cacheRedisTemplate.opsForValue()
+                    .setIfAbsent(redisKey, pending, properties.getLockTtl()))) {
+                return runFirst(redisKey, owner, fingerprint, status, action);
+            }
+
+            Object stored = cacheRedisTemplate.opsForValue().get(redisKey);
+
+            if (stored instanceof IdempotentResponse response) {
+                if (!response.getFingerprint().equals(fingerprint)) {
+                    throw new IdempotencyKeyReusedException(key);
+                }
+
+                if (response.isCompleted()) {
+                    return ResponseEntity.status(response.getStatus())
+                            .header(REPLAYED_HEADER, "true")
+                            .body(type.cast(response.getBody()));
+                }
+            }
+
+            if (System.nanoTime() >= deadline) {
+                throw new IdempotencyKeyInUseException(key);
+            }
+
+            sleep();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    private <T> ResponseEntity<T> runFirst(String redisKey,
+                                           String owner,
+                                           String fingerprint,
+                                           HttpStatus status,
+                                           Supplier<T> action) {
+        long lockTtlMillis = properties.getLockTtl().toMillis();
+        long interval = Math.max(1, lockTtlMillis / 3);
+        ScheduledFuture<?> extender = heartbeat.scheduleAtFixedRate(
+                () -> runScript(EXTEND, redisKey, owner, String.valueOf(lockTtlMillis)),
+                interval, interval, TimeUnit.MILLISECONDS);
+        T body;
+
+        try {
+            body = action.get();
+        } catch (RuntimeException e) {
+            extender.cancel(false);
+            runScript(RELEASE, redisKey, owner);
+            throw e;
+        }
+
+        extender.cancel(false);
+
+        IdempotentResponse completed = new IdempotentResponse(true, null, fingerprint, status.value(), body);
+        String serialized = new String(cacheValueSerializer.serialize(completed), StandardCharsets.UTF_8);
+
+        if (runScript(COMPLETE, redisKey, owner, serialized, String.valueOf(properties.getTtl().toMillis())) == 0) {
+            log.warn("Idempotency lock {} was lost before the response could be stored", redisKey);
+        }
+
+        return ResponseEntity.status(status).body(body);
+    }
+
+    private long runScript(RedisScript<Long> script, String redisKey, String... args) {
+        Long result = cacheRedisTemplate.execute(script, RedisSerializer.string(),
+                new GenericToStringSerializer<>(Long.class), List.of(redisKey), (Object[]) args);
+
+        return result != null ? result : 0;
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(properties.getPollInterval());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
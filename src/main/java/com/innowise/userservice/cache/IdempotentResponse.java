@@ -0,0 +1,16 @@
+package com.innowise.userservice.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotentResponse {
+    private boolean completed;
+    private String owner;
+    private String fingerprint;
+    private int status;
+    private Object body;
+}
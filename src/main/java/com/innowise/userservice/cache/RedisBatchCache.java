@@ -0,0 +1,98 @@
+package com.innowise.userservice.cache;
+
+import com.innowise.userservice.config.CacheProperties;
+import com.innowise.userservice.monitoring.CacheStatisticsHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class RedisBatchCache {
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final GenericJackson2JsonRedisSerializer cacheValueSerializer;
+    private final CacheProperties cacheProperties;
+
+    @SuppressWarnings("unchecked")
+    public <T> Map<Long, T> multiGet(String cacheName, List<Long> keys) {
+        Map<Long, T> hits = new HashMap<>();
+
+        if (keys.isEmpty()) {
+            return hits;
+        }
+
+        List<Object> values = CacheStatisticsHolder.time(() ->
+                cacheRedisTemplate.opsForValue().multiGet(redisKeys(cacheName, keys)));
+
+        if (values == null) {
+            return hits;
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (values.get(i) != null) {
+                hits.put(keys.get(i), (T) values.get(i));
+            }
+        }
+
+        return hits;
+    }
+
+    public void multiPut(String cacheName, Map<Long, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        String prefix = CacheKeyPrefix.simple().compute(cacheName);
+        Duration ttl = cacheProperties.getTtl().get(cacheName);
+        Expiration expiration = ttl != null ? Expiration.from(ttl) : Expiration.persistent();
+
+        CacheStatisticsHolder.timeRun(() -> cacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            entries.forEach((key, value) -> connection.stringCommands().set(
+                    RedisSerializer.string().serialize(prefix + key),
+                    cacheValueSerializer.serialize(value),
+                    expiration,
+                    RedisStringCommands.SetOption.upsert()));
+            return null;
+        }));
+    }
+
+    public void multiPutAfterCommit(String cacheName, Map<Long, ?> entries) {
+        afterCommit(() -> multiPut(cacheName, entries));
+    }
+
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private List<String> redisKeys(String cacheName, List<Long> keys) {
+        String prefix = CacheKeyPrefix.simple().compute(cacheName);
+
+        return keys.stream()
+                .map(key -> prefix + key)
+                .toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.innowise.userservice.cache;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+public record RenderedResponse(byte[] body, String eTag, String contentType) {
+
+    public ResponseEntity<byte[]> toResponseEntity() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(eTag)
+                .contentType(MediaType.parseMediaType(contentType))
+                .body(body);
+    }
+}
@@ -0,0 +1,92 @@
+package com.innowise.userservice.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.config.CacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class RenderedResponseCache {
+
+    private static final byte[] BODY = "body".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ETAG = "etag".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CONTENT_TYPE = "content-type".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheProperties cacheProperties;
+
+    public boolean isEnabled() {
+        return cacheProperties.isRenderedResponses();
+    }
+
+    public <T> RenderedResponse getOrRender(String cacheName, long key, Supplier<T> loader, Function<T, String> eTagFunction) {
+        byte[] redisKey = redisKey(cacheName, key);
+        RenderedResponse cached = get(redisKey);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        T value = loader.get();
+        RenderedResponse rendered = new RenderedResponse(render(value), eTagFunction.apply(value),
+                MediaType.APPLICATION_JSON_VALUE);
+        put(redisKey, rendered, cacheProperties.getTtl().get(cacheName));
+
+        return rendered;
+    }
+
+    private RenderedResponse get(byte[] redisKey) {
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.hashCommands().hMGet(redisKey, BODY, ETAG, CONTENT_TYPE));
+
+        if (values == null || values.size() < 3 || values.contains(null)) {
+            return null;
+        }
+
+        return new RenderedResponse(values.get(0),
+                new String(values.get(1), StandardCharsets.UTF_8),
+                new String(values.get(2), StandardCharsets.UTF_8));
+    }
+
+    private void put(byte[] redisKey, RenderedResponse rendered, Duration ttl) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hMSet(redisKey, Map.of(
+                    BODY, rendered.body(),
+                    ETAG, rendered.eTag().getBytes(StandardCharsets.UTF_8),
+                    CONTENT_TYPE, rendered.contentType().getBytes(StandardCharsets.UTF_8)));
+
+            if (ttl != null) {
+                connection.keyCommands().expire(redisKey, ttl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    private byte[] render(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] redisKey(String cacheName, long key) {
+        return RedisSerializer.string().serialize(CacheKeyPrefix.simple().compute(cacheName) + key);
+    }
+}
@@ -0,0 +1,26 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "admission")
+@Data
+public class AdmissionProperties {
+    private boolean enabled = false;
+    private double clientShare = 0.5;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Map<String, EndpointClass> classes = new HashMap<>();
+
+    @Data
+    public static class EndpointClass {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private Duration latencyThreshold = Duration.ofMillis(500);
+        private double backoffRatio = 0.9;
+    }
+}
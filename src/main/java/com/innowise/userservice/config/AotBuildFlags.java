@@ -0,0 +1,101 @@
+package com.innowise.userservice.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Properties;
+
+public class AotBuildFlags implements BeanFactoryInitializationAotProcessor, EnvironmentPostProcessor, Ordered {
+
+    static final String RESOURCE = "META-INF/aot-build-flags.properties";
+    static final String PROFILES = "spring.profiles.active";
+    static final List<String> FLAGS = List.of(
+            "admission.enabled",
+            "spring.threads.virtual.enabled",
+            "db.concurrency.enabled",
+            "warmup.enabled",
+            "monitoring.tracing.enabled",
+            "monitoring.tracing.file",
+            "monitoring.sql.enabled",
+            "monitoring.sql.headers-enabled",
+            "monitoring.slow-query.enabled",
+            "monitoring.service.enabled",
+            "user.archive.enabled",
+            "user.card.sweeper.enabled");
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        String flags = write(snapshot(beanFactory.getBean(Environment.class)));
+
+        return (generationContext, code) -> generationContext.getGeneratedFiles().addResourceFile(RESOURCE, flags);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        ClassPathResource resource = new ClassPathResource(RESOURCE, application.getClassLoader());
+
+        if (!AotDetector.useGeneratedArtifacts() || !resource.exists()) {
+            return;
+        }
+
+        try {
+            verify(PropertiesLoaderUtils.loadProperties(resource), environment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    static Properties snapshot(Environment environment) {
+        Properties flags = new Properties();
+
+        FLAGS.forEach(flag -> flags.setProperty(flag, environment.getProperty(flag, "")));
+        flags.setProperty(PROFILES, String.join(",", environment.getActiveProfiles()));
+
+        return flags;
+    }
+
+    static void verify(Properties built, Environment environment) {
+        Properties current = snapshot(environment);
+        List<String> overridden = built.stringPropertyNames().stream()
+                .sorted()
+                .filter(flag -> !built.getProperty(flag).equals(current.getProperty(flag, "")))
+                .map(flag -> flag + "='" + current.getProperty(flag, "") + "' (built with '" + built.getProperty(flag) + "')")
+                .toList();
+
+        if (!overridden.isEmpty()) {
+            throw new IllegalStateException("Spring AOT fixed these properties when the jar was built, "
+                    + "so they cannot change at runtime: " + String.join(", ", overridden)
+                    + ". Rebuild with the same values (-PaotProfiles=...) or start with spring.aot.enabled=false");
+        }
+    }
+
+    private static String write(Properties flags) {
+        StringWriter writer = new StringWriter();
+
+        try {
+            flags.store(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return writer.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.archive")
+@Data
+public class ArchiveProperties {
+    private boolean enabled = true;
+    private Duration inactiveAfter = Duration.ofDays(180);
+    private int batchSize = 200;
+    private int maxBatchesPerRun = 50;
+    private Duration fixedDelay = Duration.ofMinutes(10);
+}
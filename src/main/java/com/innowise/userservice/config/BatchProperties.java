@@ -0,0 +1,11 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "batch")
+@Data
+public class BatchProperties {
+    private int maxIds = 500;
+    private int maxItems = 100;
+}
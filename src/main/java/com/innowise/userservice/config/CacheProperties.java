@@ -11,4 +11,12 @@ import java.util.Map;
 @Data
 public class CacheProperties {
     private Map<String, Duration> ttl = new HashMap<>();
+    private Map<String, EntityRegion> entityRegions = new HashMap<>();
+    private boolean renderedResponses = false;
+
+    @Data
+    public static class EntityRegion {
+        private long maxEntries = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
 }
@@ -2,10 +2,20 @@ package com.innowise.userservice.config;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "user.card")
 @Data
 public class CardProperties {
     private int maxLimit;
+    private Sweeper sweeper = new Sweeper();
+
+    @Data
+    public static class Sweeper {
+        private boolean enabled = true;
+        private int batchSize = 500;
+        private int maxBatchesPerRun = 100;
+        private Duration fixedDelay = Duration.ofMinutes(1);
+    }
 }
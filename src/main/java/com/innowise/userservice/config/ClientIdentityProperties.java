@@ -0,0 +1,15 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "client-identity")
+@Data
+public class ClientIdentityProperties {
+    private String header;
+    private String forwardedForHeader = "X-Forwarded-For";
+    private List<String> trustedProxies = new ArrayList<>();
+}
@@ -0,0 +1,14 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "db.concurrency")
+@Data
+public class DbConcurrencyProperties {
+    private boolean enabled = true;
+    private int maxConcurrent = 0;
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
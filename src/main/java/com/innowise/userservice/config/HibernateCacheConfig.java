@@ -0,0 +1,56 @@
+package com.innowise.userservice.config;
+
+import lombok.RequiredArgsConstructor;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Configuration
+@RequiredArgsConstructor
+public class HibernateCacheConfig {
+    private final CacheProperties cacheProperties;
+
+    @Bean
+    public CacheManager hibernateCacheManager() {
+        Map<String, CacheConfiguration<?, ?>> regions = new HashMap<>();
+
+        cacheProperties.getEntityRegions().forEach((name, region) ->
+                regions.put(name, CacheConfigurationBuilder
+                        .newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(region.getMaxEntries()))
+                        .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTtl()))
+                        .build()));
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+
+        return provider.getCacheManager(URI.create("urn:innowise:hibernate-l2:" + UUID.randomUUID()),
+                new DefaultConfiguration(regions, getClass().getClassLoader()));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
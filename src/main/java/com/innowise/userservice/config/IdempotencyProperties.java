@@ -0,0 +1,16 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "idempotency")
+@Data
+public class IdempotencyProperties {
+    private Duration ttl = Duration.ofHours(24);
+    private Duration lockTtl = Duration.ofSeconds(30);
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private Duration pollInterval = Duration.ofMillis(50);
+    private int maxKeyLength = 255;
+}
@@ -0,0 +1,15 @@
+package com.innowise.userservice.config;
+
+import com.innowise.userservice.util.SparseFieldsHelper;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsCustomizer() {
+        return builder -> builder.filters(SparseFieldsHelper.defaultFilters());
+    }
+}
@@ -0,0 +1,15 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user.loader")
+@Data
+public class LoaderProperties {
+    private boolean enabled = false;
+    private Duration window = Duration.ofMillis(2);
+    private int maxBatchSize = 100;
+    private Duration timeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,82 @@
+package com.innowise.userservice.config;
+
+import com.innowise.userservice.cache.IdempotentResponse;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.ErrorResponse;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserCardsResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.dto.response.ValidationErrorResponse;
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import com.innowise.userservice.service.PaymentCardServiceImpl;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.UserServiceRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class UserServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    UserResponseDto.class,
+                    PaymentCardResponseDto.class,
+                    UserCardsResponseDto.class,
+                    MultiGetResponseDto.class,
+                    BatchItemResultDto.class,
+                    ErrorResponse.class,
+                    ValidationErrorResponse.class,
+                    IdempotentResponse.class);
+
+            for (Class<?> collection : List.of(ArrayList.class, LinkedHashMap.class, HashMap.class)) {
+                hints.reflection().registerType(collection, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+
+            for (String collection : List.of("java.util.ImmutableCollections$ListN",
+                    "java.util.ImmutableCollections$List12")) {
+                hints.reflection().registerTypeIfPresent(classLoader, collection,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+
+            hints.reflection().registerType(PaymentCardServiceImpl.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(PaymentCard.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(User.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            hints.reflection().registerType(EhcacheCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerTypeIfPresent(classLoader,
+                    "org.hibernate.cache.jcache.internal.JCacheRegionFactory",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            hints.proxies().registerJdkProxy(Connection.class);
+
+            for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                    CallableStatement.class, ResultSet.class)) {
+                hints.proxies().registerJdkProxy(TypeReference.of(ProxyJdbcObject.class), TypeReference.of(jdbcType));
+            }
+
+            hints.resources().registerPattern("db/changelog/*.yaml");
+            hints.resources().registerPattern("db/changelog/changes/*.yaml");
+        }
+    }
+}
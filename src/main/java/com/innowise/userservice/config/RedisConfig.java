@@ -4,14 +4,20 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.innowise.userservice.monitoring.TimedRedisCacheManager;
+import com.innowise.userservice.util.SparseFieldsHelper;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -23,33 +29,47 @@ public class RedisConfig {
     private final CacheProperties cacheProperties;
 
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public GenericJackson2JsonRedisSerializer cacheValueSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.setFilterProvider(SparseFieldsHelper.defaultFilters());
         objectMapper.activateDefaultTyping(
                 LaissezFaireSubTypeValidator.instance,
                 ObjectMapper.DefaultTyping.NON_FINAL,
                 JsonTypeInfo.As.PROPERTY
         );
 
-        GenericJackson2JsonRedisSerializer serializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               GenericJackson2JsonRedisSerializer cacheValueSerializer,
+                                               ObservationRegistry observationRegistry) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(5))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.
-                        fromSerializer(serializer));
+                        fromSerializer(cacheValueSerializer));
 
         Map<String, RedisCacheConfiguration> ttlConfiguration = new HashMap<>();
 
         ttlConfiguration.put("user", config.entryTtl(cacheProperties.getTtl().get("user")));
+        ttlConfiguration.put("user-slim", config.entryTtl(cacheProperties.getTtl().get("user-slim")));
         ttlConfiguration.put("card", config.entryTtl(cacheProperties.getTtl().get("card")));
         ttlConfiguration.put("cards", config.entryTtl(cacheProperties.getTtl().get("cards")));
 
-        return RedisCacheManager
-                .builder(connectionFactory)
-                .cacheDefaults(config)
-                .withInitialCacheConfigurations(ttlConfiguration)
-                .build();
+        return new TimedRedisCacheManager(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory),
+                config, ttlConfiguration, observationRegistry);
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                            GenericJackson2JsonRedisSerializer cacheValueSerializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(cacheValueSerializer);
+
+        return template;
     }
 }
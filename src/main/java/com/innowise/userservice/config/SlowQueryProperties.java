@@ -0,0 +1,25 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "monitoring.slow-query")
+@Data
+public class SlowQueryProperties {
+    private boolean enabled = true;
+    private Duration threshold = Duration.ofMillis(200);
+    private int maxStatements = 500;
+    private int maxStatementLength = 2048;
+    private Explain explain = new Explain();
+
+    @Data
+    public static class Explain {
+        private boolean enabled = true;
+        private double sampleRate = 0.1;
+        private Duration timeout = Duration.ofSeconds(5);
+        private Duration refreshInterval = Duration.ofMinutes(10);
+        private int queueCapacity = 16;
+    }
+}
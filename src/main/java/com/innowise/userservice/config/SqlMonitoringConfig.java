@@ -0,0 +1,61 @@
+package com.innowise.userservice.config;
+
+import com.innowise.userservice.monitoring.SlowQueryListener;
+import com.innowise.userservice.monitoring.SlowQueryMonitor;
+import com.innowise.userservice.monitoring.SqlStatisticsListener;
+import com.innowise.userservice.tracing.JdbcObservationListener;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "monitoring.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor(ObjectProvider<ObservationRegistry> observationRegistry,
+                                                                        ObjectProvider<SlowQueryMonitor> slowQueryMonitor,
+                                                                        Environment environment) {
+        SqlStatisticsListener listener = new SqlStatisticsListener();
+        boolean tracingEnabled = environment.getProperty("monitoring.tracing.enabled", Boolean.class, true);
+        JdbcObservationListener observationListener = new JdbcObservationListener(
+                SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)),
+                environment.getProperty("monitoring.tracing.max-statement-length", Integer.class, 512));
+        boolean slowQueriesEnabled = environment.getProperty("monitoring.slow-query.enabled", Boolean.class, true);
+        SingletonSupplier<SlowQueryMonitor> slowQueries = SingletonSupplier.ofNullable(slowQueryMonitor::getIfAvailable);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener)
+                            .methodListener(listener)
+                            .proxyResultSet();
+
+                    if (tracingEnabled) {
+                        builder.listener(observationListener);
+                    }
+
+                    if (slowQueriesEnabled) {
+                        builder.listener(new SlowQueryListener(slowQueries, dataSource));
+                    }
+
+                    return builder.build();
+                }
+
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "monitoring.sql")
+@Data
+public class SqlMonitoringProperties {
+    private boolean enabled = true;
+    private boolean headersEnabled = false;
+    private boolean metricsEnabled = true;
+}
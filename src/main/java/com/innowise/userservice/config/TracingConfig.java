@@ -0,0 +1,18 @@
+package com.innowise.userservice.config;
+
+import com.innowise.userservice.tracing.FileSpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(prefix = "monitoring.tracing", name = "file")
+public class TracingConfig {
+
+    @Bean(destroyMethod = "")
+    public FileSpanExporter fileSpanExporter(TracingProperties tracingProperties) {
+        return new FileSpanExporter(Path.of(tracingProperties.getFile()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "monitoring.tracing")
+@Data
+public class TracingProperties {
+    private boolean enabled = true;
+    private String file;
+    private int maxStatementLength = 512;
+}
@@ -0,0 +1,65 @@
+package com.innowise.userservice.config;
+
+import com.innowise.userservice.datasource.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "db.concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            ObjectProvider<DbConcurrencyProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConcurrencyLimitingPostProcessor(properties, meterRegistry);
+    }
+
+    private record ConcurrencyLimitingPostProcessor(ObjectProvider<DbConcurrencyProperties> properties,
+                                                  ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+
+            DbConcurrencyProperties props = properties.getIfAvailable(DbConcurrencyProperties::new);
+            int maxConcurrent = props.getMaxConcurrent() > 0 ? props.getMaxConcurrent() : hikari.getMaximumPoolSize();
+            ConcurrencyLimitingDataSource dataSource =
+                    new ConcurrencyLimitingDataSource(hikari, maxConcurrent, props.getAcquireTimeout());
+
+            meterRegistry.ifAvailable(registry -> bindMetrics(registry, beanName, dataSource));
+
+            return dataSource;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        private static void bindMetrics(MeterRegistry registry, String beanName, ConcurrencyLimitingDataSource dataSource) {
+            Gauge.builder("db.concurrency.limit", dataSource, ConcurrencyLimitingDataSource::getMaxConcurrent)
+                    .tag("name", beanName)
+                    .register(registry);
+            Gauge.builder("db.concurrency.active", dataSource, ConcurrencyLimitingDataSource::getActive)
+                    .tag("name", beanName)
+                    .register(registry);
+            Gauge.builder("db.concurrency.waiting", dataSource, ConcurrencyLimitingDataSource::getWaiting)
+                    .tag("name", beanName)
+                    .register(registry);
+        }
+    }
+}
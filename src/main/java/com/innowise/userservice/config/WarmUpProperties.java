@@ -0,0 +1,15 @@
+package com.innowise.userservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "warmup")
+@Data
+public class WarmUpProperties {
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(30);
+    private int iterations = 200;
+    private int connections = 10;
+}
@@ -1,13 +1,26 @@
 package com.innowise.userservice.controller;
 
+import com.innowise.userservice.cache.IdempotencyStore;
+import com.innowise.userservice.cache.RenderedResponseCache;
+import com.innowise.userservice.config.ClientIdentityProperties;
+import com.innowise.userservice.dto.request.BatchRequestDto;
 import com.innowise.userservice.dto.request.PaymentCardCreateDto;
 import com.innowise.userservice.dto.request.PaymentCardUpdateDto;
+import com.innowise.userservice.dto.request.StatusChangeDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
 import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserCardsResponseDto;
 import com.innowise.userservice.service.PaymentCardService;
+import com.innowise.userservice.util.ClientIdentityHelper;
+import com.innowise.userservice.util.ETagHelper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,23 +29,46 @@ import java.time.LocalDate;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/cards")
 @RequiredArgsConstructor
 public class PaymentCardController {
 
     private final PaymentCardService paymentCardService;
+    private final IdempotencyStore idempotencyStore;
+    private final ClientIdentityProperties clientIdentityProperties;
+    private final RenderedResponseCache renderedResponseCache;
 
     @GetMapping("/{id}")
-    public ResponseEntity<PaymentCardResponseDto> getById(@PathVariable Long id) {
+    public ResponseEntity<?> getById(@PathVariable Long id) {
+        if (renderedResponseCache.isEnabled()) {
+            return renderedResponseCache.getOrRender("card-json", id,
+                    () -> paymentCardService.findDtoById(id),
+                    ETagHelper::cardETag).toResponseEntity();
+        }
+
         PaymentCardResponseDto dto = paymentCardService.findDtoById(id);
 
-        return ResponseEntity.status(HttpStatus.OK).body(dto);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETagHelper.cardETag(dto)).body(dto);
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PaymentCardResponseDto>> findAllCardsForUser(@PathVariable Long userId) {
+    public ResponseEntity<?> findAllCardsForUser(@PathVariable Long userId) {
+        if (renderedResponseCache.isEnabled()) {
+            return renderedResponseCache.getOrRender("cards-json", userId,
+                    () -> paymentCardService.findAllByUserId(userId),
+                    cards -> ETagHelper.cardsETag(userId, cards)).toResponseEntity();
+        }
+
         List<PaymentCardResponseDto> res = paymentCardService.findAllByUserId(userId);
 
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETagHelper.cardsETag(userId, res)).body(res);
+    }
+
+    @GetMapping("/users")
+    public ResponseEntity<MultiGetResponseDto<UserCardsResponseDto>> findAllCardsForUsers(@RequestParam List<Long> ids) {
+        MultiGetResponseDto<UserCardsResponseDto> res = paymentCardService.findAllByUserIds(ids);
+
         return ResponseEntity.status(HttpStatus.OK).body(res);
     }
 
@@ -48,18 +84,47 @@ public class PaymentCardController {
     }
 
     @PostMapping
-    public ResponseEntity<PaymentCardResponseDto> create(@RequestBody @Valid PaymentCardCreateDto dto) {
+    public ResponseEntity<PaymentCardResponseDto> create(@RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                         @RequestBody @Valid PaymentCardCreateDto dto,
+                                                         HttpServletRequest request) {
+        if (idempotencyKey != null) {
+            return idempotencyStore.execute("cards", idempotencyClient(request), idempotencyKey, dto,
+                    HttpStatus.CREATED, PaymentCardResponseDto.class, () -> paymentCardService.create(dto));
+        }
+
         PaymentCardResponseDto created = paymentCardService.create(dto);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResultDto<PaymentCardResponseDto>>> createBatch(@RequestBody @Valid BatchRequestDto<PaymentCardCreateDto> dto) {
+        List<BatchItemResultDto<PaymentCardResponseDto>> res = paymentCardService.createBatch(dto.getItems());
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResultDto<PaymentCardResponseDto>>> updateBatch(@RequestBody @Valid BatchRequestDto<PaymentCardUpdateDto> dto) {
+        List<BatchItemResultDto<PaymentCardResponseDto>> res = paymentCardService.updateBatch(dto.getItems());
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
+
+    @PatchMapping("/batch/status")
+    public ResponseEntity<List<BatchItemResultDto<PaymentCardResponseDto>>> changeStatusBatch(@RequestBody @Valid BatchRequestDto<StatusChangeDto> dto) {
+        List<BatchItemResultDto<PaymentCardResponseDto>> res = paymentCardService.changeStatusBatch(dto.getItems());
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PaymentCardResponseDto> update(@PathVariable Long id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                          @RequestBody @Valid PaymentCardUpdateDto dto) {
-        PaymentCardResponseDto updated = paymentCardService.update(id, dto);
+        PaymentCardResponseDto updated = paymentCardService.update(id, dto, ifMatch);
 
-        return ResponseEntity.status(HttpStatus.OK).body(updated);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETagHelper.cardETag(updated)).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -82,4 +147,9 @@ public class PaymentCardController {
 
         return ResponseEntity.status(HttpStatus.OK).body(updated);
     }
+
+    private String idempotencyClient(HttpServletRequest request) {
+        return ClientIdentityHelper.trustedClientId(request, clientIdentityProperties)
+                .orElse(IdempotencyStore.SHARED_CLIENT);
+    }
 }
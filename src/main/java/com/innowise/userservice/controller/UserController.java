@@ -1,64 +1,146 @@
 package com.innowise.userservice.controller;
 
+import com.innowise.userservice.cache.IdempotencyStore;
+import com.innowise.userservice.cache.RenderedResponseCache;
+import com.innowise.userservice.config.ClientIdentityProperties;
+import com.innowise.userservice.dto.request.BatchRequestDto;
+import com.innowise.userservice.dto.request.StatusChangeDto;
 import com.innowise.userservice.dto.request.UserCreateDto;
 import com.innowise.userservice.dto.request.UserUpdateDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
 import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.loader.UserDtoBatchLoader;
 import com.innowise.userservice.service.UserService;
+import com.innowise.userservice.util.ClientIdentityHelper;
+import com.innowise.userservice.util.ETagHelper;
+import com.innowise.userservice.util.SparseFieldsHelper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/users")
 @RequiredArgsConstructor
 public class UserController {
 
     private final UserService userService;
+    private final RenderedResponseCache renderedResponseCache;
+    private final UserDtoBatchLoader userDtoLoader;
+    private final IdempotencyStore idempotencyStore;
+    private final ClientIdentityProperties clientIdentityProperties;
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDto> getById(@PathVariable Long id) {
-        UserResponseDto dto = userService.findDtoById(id);
+    public ResponseEntity<?> getById(@PathVariable Long id,
+                                     @RequestParam(required = false) Set<String> fields,
+                                     @RequestParam(required = false) Set<String> include,
+                                     @RequestParam(required = false) Set<String> exclude) {
+        boolean withCards = SparseFieldsHelper.includesCards(fields, include, exclude);
+
+        if (fields == null && renderedResponseCache.isEnabled()) {
+            return renderedResponseCache.getOrRender(withCards ? "user-json" : "user-slim-json", id,
+                    () -> userDtoLoader.findDtoById(id, withCards),
+                    ETagHelper::userETag).toResponseEntity();
+        }
+
+        UserResponseDto dto = userDtoLoader.findDtoById(id, withCards);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(ETagHelper.userETag(dto, SparseFieldsHelper.selectedFields(fields, include)))
+                .body(SparseFieldsHelper.select(dto, fields, include));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<MappingJacksonValue> getByIds(@RequestParam List<Long> ids,
+                                                        @RequestParam(required = false) Set<String> fields,
+                                                        @RequestParam(required = false) Set<String> include,
+                                                        @RequestParam(required = false) Set<String> exclude) {
+        MultiGetResponseDto<UserResponseDto> res = userService.findDtosByIds(ids,
+                SparseFieldsHelper.includesCards(fields, include, exclude));
 
-        return ResponseEntity.status(HttpStatus.OK).body(dto);
+        return ResponseEntity.status(HttpStatus.OK).body(SparseFieldsHelper.select(res, fields, include));
     }
 
     @GetMapping
-    public ResponseEntity<Page<UserResponseDto>> findAll(@RequestParam(required = false) String name,
-                                                         @RequestParam(required = false) String surname,
-                                                         @RequestParam(required = false) LocalDate birthDate,
-                                                         @RequestParam(required = false) Boolean active,
-                                                         Pageable pageable) {
-        Page<UserResponseDto> page = userService.findAll(name, surname, birthDate, active, pageable);
-
-        return ResponseEntity.status(HttpStatus.OK).body(page);
+    public ResponseEntity<MappingJacksonValue> findAll(@RequestParam(required = false) String name,
+                                                       @RequestParam(required = false) String surname,
+                                                       @RequestParam(required = false) LocalDate birthDate,
+                                                       @RequestParam(required = false) Boolean active,
+                                                       @RequestParam(required = false) Set<String> fields,
+                                                       @RequestParam(required = false) Set<String> include,
+                                                       @RequestParam(required = false) Set<String> exclude,
+                                                       Pageable pageable) {
+        Page<UserResponseDto> page = userService.findAll(name, surname, birthDate, active,
+                SparseFieldsHelper.includesCards(fields, include, exclude), pageable);
+
+        return ResponseEntity.status(HttpStatus.OK).body(SparseFieldsHelper.select(page, fields, include));
     }
 
     @GetMapping("/email/{email}")
-    public ResponseEntity<UserResponseDto> getByEmail(@PathVariable String email) {
-        UserResponseDto dto = userService.findDtoByEmail(email);
+    public ResponseEntity<MappingJacksonValue> getByEmail(@PathVariable String email,
+                                                          @RequestParam(required = false) Set<String> fields,
+                                                          @RequestParam(required = false) Set<String> include,
+                                                          @RequestParam(required = false) Set<String> exclude) {
+        UserResponseDto dto = userService.findDtoByEmail(email, SparseFieldsHelper.includesCards(fields, include, exclude));
 
-        return ResponseEntity.status(HttpStatus.OK).body(dto);
+        return ResponseEntity.status(HttpStatus.OK).body(SparseFieldsHelper.select(dto, fields, include));
     }
 
     @PostMapping
-    public ResponseEntity<UserResponseDto> create(@RequestBody @Valid UserCreateDto dto) {
+    public ResponseEntity<UserResponseDto> create(@RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                  @RequestBody @Valid UserCreateDto dto,
+                                                  HttpServletRequest request) {
+        if (idempotencyKey != null) {
+            return idempotencyStore.execute("users", idempotencyClient(request), idempotencyKey, dto,
+                    HttpStatus.CREATED, UserResponseDto.class, () -> userService.create(dto));
+        }
+
         UserResponseDto created = userService.create(dto);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResultDto<UserResponseDto>>> createBatch(@RequestBody @Valid BatchRequestDto<UserCreateDto> dto) {
+        List<BatchItemResultDto<UserResponseDto>> res = userService.createBatch(dto.getItems());
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<BatchItemResultDto<UserResponseDto>>> updateBatch(@RequestBody @Valid BatchRequestDto<UserUpdateDto> dto) {
+        List<BatchItemResultDto<UserResponseDto>> res = userService.updateBatch(dto.getItems());
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
+
+    @PatchMapping("/batch/status")
+    public ResponseEntity<List<BatchItemResultDto<UserResponseDto>>> changeStatusBatch(@RequestBody @Valid BatchRequestDto<StatusChangeDto> dto) {
+        List<BatchItemResultDto<UserResponseDto>> res = userService.changeStatusBatch(dto.getItems());
+
+        return ResponseEntity.status(HttpStatus.OK).body(res);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserResponseDto> update(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                   @RequestBody @Valid UserUpdateDto dto) {
-        UserResponseDto updated = userService.update(id, dto);
+        UserResponseDto updated = userService.update(id, dto, ifMatch);
 
-        return ResponseEntity.status(HttpStatus.OK).body(updated);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETagHelper.userETag(updated)).body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -81,4 +163,9 @@ public class UserController {
 
         return ResponseEntity.status(HttpStatus.OK).body(updated);
     }
+
+    private String idempotencyClient(HttpServletRequest request) {
+        return ClientIdentityHelper.trustedClientId(request, clientIdentityProperties)
+                .orElse(IdempotencyStore.SHARED_CLIENT);
+    }
 }
@@ -0,0 +1,108 @@
+package com.innowise.userservice.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Duration acquireTimeout;
+
+    public ConcurrencyLimitingDataSource(DataSource target, int maxConcurrent, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("No database permit available within " + acquireTimeout
+                        + " (" + maxConcurrent + " concurrent connections allowed)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isClose(method) && released.compareAndSet(false, true)) {
+                        try {
+                            return invoke(connection, method, args);
+                        } finally {
+                            permits.release();
+                        }
+                    }
+
+                    return invoke(connection, method, args);
+                });
+    }
+
+    private static boolean isClose(Method method) {
+        return "close".equals(method.getName()) && method.getParameterCount() == 0;
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
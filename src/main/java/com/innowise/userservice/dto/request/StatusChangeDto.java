@@ -0,0 +1,20 @@
+package com.innowise.userservice.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusChangeDto {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+
+    @NotNull(message = "Active flag is required")
+    private Boolean active;
+}
@@ -0,0 +1,18 @@
+package com.innowise.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchItemResultDto<T> {
+    private int index;
+    private int status;
+    private T item;
+    private String error;
+    private String message;
+}
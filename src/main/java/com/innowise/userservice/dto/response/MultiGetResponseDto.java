@@ -0,0 +1,18 @@
+package com.innowise.userservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MultiGetResponseDto<T> {
+    private List<T> items = new ArrayList<>();
+    private List<Long> missingIds = new ArrayList<>();
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Data
@@ -17,4 +18,5 @@ public class PaymentCardResponseDto {
     private String holder;
     private LocalDate expirationDate;
     private boolean active;
+    private Instant updatedAt;
 }
@@ -1,10 +1,14 @@
 package com.innowise.userservice.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.innowise.userservice.util.SparseFieldsHelper;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,7 +16,8 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@JsonFilter(SparseFieldsHelper.USER_FIELDS_FILTER)
 public class UserResponseDto {
     private long id;
     private String name;
@@ -20,5 +25,8 @@ public class UserResponseDto {
     private LocalDate birthDate;
     private String email;
     private boolean active;
+    private Instant updatedAt;
+    private boolean archived;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<PaymentCardResponseDto> paymentCards = new ArrayList<>();
 }
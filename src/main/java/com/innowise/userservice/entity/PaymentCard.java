@@ -2,6 +2,8 @@ package com.innowise.userservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
@@ -12,9 +14,12 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "payment_cards")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "payment-card-entity")
 public class PaymentCard extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_cards_seq")
+    @SequenceGenerator(name = "payment_cards_seq", sequenceName = "payment_cards_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -3,6 +3,7 @@ package com.innowise.userservice.exception;
 import com.innowise.userservice.dto.response.ErrorResponse;
 import com.innowise.userservice.dto.response.ValidationErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,6 +15,7 @@ import static com.innowise.userservice.util.ErrorResponseHelper.buildValidationE
 
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -50,6 +52,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException e,
+                                                                  HttpServletRequest request) {
+        var body = buildErrorResponse(e, HttpStatus.PRECONDITION_FAILED, request);
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(body);
+    }
+
+    @ExceptionHandler(IdempotencyKeyInUseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyInUse(IdempotencyKeyInUseException e,
+                                                                   HttpServletRequest request) {
+        var body = buildErrorResponse(e, HttpStatus.CONFLICT, request);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException e,
+                                                                    HttpServletRequest request) {
+        var body = buildErrorResponse(e, HttpStatus.UNPROCESSABLE_ENTITY, request);
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(body);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException e,
+                                                                  HttpServletRequest request) {
+        var body = buildErrorResponse(e, HttpStatus.SERVICE_UNAVAILABLE, request);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e,
                                                          HttpServletRequest request) {
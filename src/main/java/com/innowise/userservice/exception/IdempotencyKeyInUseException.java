@@ -0,0 +1,7 @@
+package com.innowise.userservice.exception;
+
+public class IdempotencyKeyInUseException extends RuntimeException {
+    public IdempotencyKeyInUseException(String key) {
+        super("Request with Idempotency-Key=" + key + " is still being processed");
+    }
+}
@@ -0,0 +1,7 @@
+package com.innowise.userservice.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String resource, long id) {
+        super(resource + " with id=" + id + " was modified by another request");
+    }
+}
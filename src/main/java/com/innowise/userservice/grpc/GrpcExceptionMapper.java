@@ -0,0 +1,45 @@
+package com.innowise.userservice.grpc;
+
+import com.innowise.userservice.exception.BadRequestException;
+import com.innowise.userservice.exception.PaymentCardAlreadyExistsException;
+import com.innowise.userservice.exception.PaymentCardLimitExceededException;
+import com.innowise.userservice.exception.PaymentCardNotFoundException;
+import com.innowise.userservice.exception.PreconditionFailedException;
+import com.innowise.userservice.exception.ServiceUnavailableException;
+import com.innowise.userservice.exception.UserAlreadyExistsException;
+import com.innowise.userservice.exception.UserNotFoundException;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.grpc.server.exception.GrpcExceptionHandler;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeParseException;
+import java.util.stream.Collectors;
+
+@Component
+public class GrpcExceptionMapper implements GrpcExceptionHandler {
+
+    @Override
+    public StatusException handleException(Throwable e) {
+        Status status = switch (e) {
+            case ConstraintViolationException cve -> Status.INVALID_ARGUMENT.withDescription(cve.getConstraintViolations()
+                    .stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            case BadRequestException bre -> Status.INVALID_ARGUMENT.withDescription(bre.getMessage());
+            case DateTimeParseException dtpe -> Status.INVALID_ARGUMENT.withDescription(dtpe.getMessage());
+            case UserNotFoundException unfe -> Status.NOT_FOUND.withDescription(unfe.getMessage());
+            case PaymentCardNotFoundException pcnfe -> Status.NOT_FOUND.withDescription(pcnfe.getMessage());
+            case UserAlreadyExistsException uaee -> Status.ALREADY_EXISTS.withDescription(uaee.getMessage());
+            case PaymentCardAlreadyExistsException pcaee -> Status.ALREADY_EXISTS.withDescription(pcaee.getMessage());
+            case PaymentCardLimitExceededException pclee -> Status.FAILED_PRECONDITION.withDescription(pclee.getMessage());
+            case PreconditionFailedException pfe -> Status.FAILED_PRECONDITION.withDescription(pfe.getMessage());
+            case ServiceUnavailableException sue -> Status.UNAVAILABLE.withDescription(sue.getMessage());
+            default -> null;
+        };
+
+        return status != null ? status.asException() : null;
+    }
+}
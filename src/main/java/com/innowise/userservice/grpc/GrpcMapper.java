@@ -0,0 +1,187 @@
+package com.innowise.userservice.grpc;
+
+import com.google.protobuf.Timestamp;
+import com.innowise.userservice.dto.request.PaymentCardCreateDto;
+import com.innowise.userservice.dto.request.PaymentCardUpdateDto;
+import com.innowise.userservice.dto.request.StatusChangeDto;
+import com.innowise.userservice.dto.request.UserCreateDto;
+import com.innowise.userservice.dto.request.UserUpdateDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserCardsResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.grpc.proto.CardBatchResponse;
+import com.innowise.userservice.grpc.proto.CardBatchResult;
+import com.innowise.userservice.grpc.proto.ChangeStatusRequest;
+import com.innowise.userservice.grpc.proto.CreateCardRequest;
+import com.innowise.userservice.grpc.proto.CreateUserRequest;
+import com.innowise.userservice.grpc.proto.PaymentCard;
+import com.innowise.userservice.grpc.proto.UpdateCardRequest;
+import com.innowise.userservice.grpc.proto.UpdateUserRequest;
+import com.innowise.userservice.grpc.proto.User;
+import com.innowise.userservice.grpc.proto.UserBatchResponse;
+import com.innowise.userservice.grpc.proto.UserBatchResult;
+import com.innowise.userservice.grpc.proto.UserCards;
+import com.innowise.userservice.grpc.proto.UsersResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+public class GrpcMapper {
+
+    public User toProto(UserResponseDto dto) {
+        User.Builder builder = User.newBuilder()
+                .setId(dto.getId())
+                .setName(nullToEmpty(dto.getName()))
+                .setSurname(nullToEmpty(dto.getSurname()))
+                .setBirthDate(format(dto.getBirthDate()))
+                .setEmail(nullToEmpty(dto.getEmail()))
+                .setActive(dto.isActive())
+                .setArchived(dto.isArchived());
+
+        if (dto.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(dto.getUpdatedAt()));
+        }
+
+        if (dto.getPaymentCards() != null) {
+            dto.getPaymentCards().forEach(card -> builder.addPaymentCards(toProto(card)));
+        }
+
+        return builder.build();
+    }
+
+    public PaymentCard toProto(PaymentCardResponseDto dto) {
+        PaymentCard.Builder builder = PaymentCard.newBuilder()
+                .setId(dto.getId())
+                .setNumber(nullToEmpty(dto.getNumber()))
+                .setHolder(nullToEmpty(dto.getHolder()))
+                .setExpirationDate(format(dto.getExpirationDate()))
+                .setActive(dto.isActive());
+
+        if (dto.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(dto.getUpdatedAt()));
+        }
+
+        return builder.build();
+    }
+
+    public UserCards toProto(UserCardsResponseDto dto) {
+        return UserCards.newBuilder()
+                .setUserId(dto.getUserId())
+                .addAllCards(dto.getCards().stream().map(this::toProto).toList())
+                .build();
+    }
+
+    public UsersResponse toProto(MultiGetResponseDto<UserResponseDto> dto) {
+        return UsersResponse.newBuilder()
+                .addAllItems(dto.getItems().stream().map(this::toProto).toList())
+                .addAllMissingIds(dto.getMissingIds())
+                .build();
+    }
+
+    public UserBatchResponse toUserBatchResponse(List<BatchItemResultDto<UserResponseDto>> results) {
+        UserBatchResponse.Builder builder = UserBatchResponse.newBuilder();
+
+        for (BatchItemResultDto<UserResponseDto> result : results) {
+            UserBatchResult.Builder item = UserBatchResult.newBuilder()
+                    .setIndex(result.getIndex())
+                    .setStatus(result.getStatus())
+                    .setError(nullToEmpty(result.getError()))
+                    .setMessage(nullToEmpty(result.getMessage()));
+
+            if (result.getItem() != null) {
+                item.setItem(toProto(result.getItem()));
+            }
+
+            builder.addResults(item);
+        }
+
+        return builder.build();
+    }
+
+    public CardBatchResponse toCardBatchResponse(List<BatchItemResultDto<PaymentCardResponseDto>> results) {
+        CardBatchResponse.Builder builder = CardBatchResponse.newBuilder();
+
+        for (BatchItemResultDto<PaymentCardResponseDto> result : results) {
+            CardBatchResult.Builder item = CardBatchResult.newBuilder()
+                    .setIndex(result.getIndex())
+                    .setStatus(result.getStatus())
+                    .setError(nullToEmpty(result.getError()))
+                    .setMessage(nullToEmpty(result.getMessage()));
+
+            if (result.getItem() != null) {
+                item.setItem(toProto(result.getItem()));
+            }
+
+            builder.addResults(item);
+        }
+
+        return builder.build();
+    }
+
+    public UserCreateDto toDto(CreateUserRequest request) {
+        return UserCreateDto.builder()
+                .name(emptyToNull(request.getName()))
+                .surname(emptyToNull(request.getSurname()))
+                .birthDate(parse(request.getBirthDate()))
+                .email(emptyToNull(request.getEmail()))
+                .build();
+    }
+
+    public UserUpdateDto toDto(UpdateUserRequest request) {
+        return UserUpdateDto.builder()
+                .id(request.getId())
+                .name(request.hasName() ? request.getName() : null)
+                .surname(request.hasSurname() ? request.getSurname() : null)
+                .birthDate(request.hasBirthDate() ? parse(request.getBirthDate()) : null)
+                .email(request.hasEmail() ? request.getEmail() : null)
+                .build();
+    }
+
+    public PaymentCardCreateDto toDto(CreateCardRequest request) {
+        return PaymentCardCreateDto.builder()
+                .number(emptyToNull(request.getNumber()))
+                .expirationDate(parse(request.getExpirationDate()))
+                .userId(request.getUserId())
+                .build();
+    }
+
+    public PaymentCardUpdateDto toDto(UpdateCardRequest request) {
+        return PaymentCardUpdateDto.builder()
+                .id(request.getId())
+                .number(request.hasNumber() ? request.getNumber() : null)
+                .expirationDate(request.hasExpirationDate() ? parse(request.getExpirationDate()) : null)
+                .build();
+    }
+
+    public StatusChangeDto toDto(ChangeStatusRequest request) {
+        return new StatusChangeDto(request.getId(), request.getActive());
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static LocalDate parse(String date) {
+        return date.isEmpty() ? null : LocalDate.parse(date);
+    }
+
+    private static String format(LocalDate date) {
+        return date == null ? "" : date.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
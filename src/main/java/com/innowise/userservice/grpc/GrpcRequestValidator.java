@@ -0,0 +1,32 @@
+package com.innowise.userservice.grpc;
+
+import com.innowise.userservice.dto.request.BatchRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class GrpcRequestValidator {
+
+    private final Validator validator;
+
+    public <T> T validate(T dto) {
+        Set<ConstraintViolation<T>> violations = validator.validate(dto);
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        return dto;
+    }
+
+    public <T> List<T> validateBatch(List<T> items) {
+        return validate(new BatchRequestDto<>(items)).getItems();
+    }
+}
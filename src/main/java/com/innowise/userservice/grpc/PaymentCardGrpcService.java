@@ -0,0 +1,103 @@
+package com.innowise.userservice.grpc;
+
+import com.google.protobuf.Empty;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.grpc.proto.CardBatchResponse;
+import com.innowise.userservice.grpc.proto.CardIdRequest;
+import com.innowise.userservice.grpc.proto.CardsByUserRequest;
+import com.innowise.userservice.grpc.proto.ChangeStatusRequest;
+import com.innowise.userservice.grpc.proto.ChangeStatusesRequest;
+import com.innowise.userservice.grpc.proto.CreateCardRequest;
+import com.innowise.userservice.grpc.proto.CreateCardsRequest;
+import com.innowise.userservice.grpc.proto.IdsRequest;
+import com.innowise.userservice.grpc.proto.PaymentCard;
+import com.innowise.userservice.grpc.proto.PaymentCardApiGrpc;
+import com.innowise.userservice.grpc.proto.UpdateCardRequest;
+import com.innowise.userservice.grpc.proto.UpdateCardsRequest;
+import com.innowise.userservice.grpc.proto.UserCards;
+import com.innowise.userservice.service.PaymentCardService;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import static com.innowise.userservice.grpc.StreamObservers.complete;
+import static com.innowise.userservice.grpc.StreamObservers.streamWhenReady;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentCardGrpcService extends PaymentCardApiGrpc.PaymentCardApiImplBase {
+
+    private final PaymentCardService paymentCardService;
+    private final GrpcMapper mapper;
+    private final GrpcRequestValidator validator;
+
+    @Override
+    public void create(CreateCardRequest request, StreamObserver<PaymentCard> responseObserver) {
+        PaymentCardResponseDto created = paymentCardService.create(validator.validate(mapper.toDto(request)));
+
+        complete(responseObserver, mapper.toProto(created));
+    }
+
+    @Override
+    public void update(UpdateCardRequest request, StreamObserver<PaymentCard> responseObserver) {
+        PaymentCardResponseDto updated = paymentCardService.update(request.getId(),
+                validator.validate(mapper.toDto(request)),
+                request.hasIfMatch() ? request.getIfMatch() : null);
+
+        complete(responseObserver, mapper.toProto(updated));
+    }
+
+    @Override
+    public void delete(CardIdRequest request, StreamObserver<Empty> responseObserver) {
+        paymentCardService.delete(request.getId());
+
+        complete(responseObserver, Empty.getDefaultInstance());
+    }
+
+    @Override
+    public void changeStatus(ChangeStatusRequest request, StreamObserver<PaymentCard> responseObserver) {
+        PaymentCardResponseDto updated = paymentCardService.changeStatus(request.getId(), request.getActive());
+
+        complete(responseObserver, mapper.toProto(updated));
+    }
+
+    @Override
+    public void createBatch(CreateCardsRequest request, StreamObserver<CardBatchResponse> responseObserver) {
+        var items = validator.validateBatch(request.getItemsList().stream().map(mapper::toDto).toList());
+
+        complete(responseObserver, mapper.toCardBatchResponse(paymentCardService.createBatch(items)));
+    }
+
+    @Override
+    public void updateBatch(UpdateCardsRequest request, StreamObserver<CardBatchResponse> responseObserver) {
+        var items = validator.validateBatch(request.getItemsList().stream().map(mapper::toDto).toList());
+
+        complete(responseObserver, mapper.toCardBatchResponse(paymentCardService.updateBatch(items)));
+    }
+
+    @Override
+    public void changeStatusBatch(ChangeStatusesRequest request, StreamObserver<CardBatchResponse> responseObserver) {
+        var items = validator.validateBatch(request.getItemsList().stream().map(mapper::toDto).toList());
+
+        complete(responseObserver, mapper.toCardBatchResponse(paymentCardService.changeStatusBatch(items)));
+    }
+
+    @Override
+    public void getById(CardIdRequest request, StreamObserver<PaymentCard> responseObserver) {
+        complete(responseObserver, mapper.toProto(paymentCardService.findDtoById(request.getId())));
+    }
+
+    @Override
+    public void streamByUserId(CardsByUserRequest request, StreamObserver<PaymentCard> responseObserver) {
+        streamWhenReady(responseObserver, paymentCardService.findAllByUserId(request.getUserId()).stream()
+                .map(mapper::toProto)
+                .iterator());
+    }
+
+    @Override
+    public void streamByUserIds(IdsRequest request, StreamObserver<UserCards> responseObserver) {
+        streamWhenReady(responseObserver, paymentCardService.findAllByUserIds(request.getIdsList()).getItems().stream()
+                .map(mapper::toProto)
+                .iterator());
+    }
+}
@@ -0,0 +1,41 @@
+package com.innowise.userservice.grpc;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class StreamObservers {
+    static <T> void complete(StreamObserver<T> responseObserver, T response) {
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    static <T> void streamWhenReady(StreamObserver<T> responseObserver, Iterator<T> source) {
+        ServerCallStreamObserver<T> serverObserver = (ServerCallStreamObserver<T>) responseObserver;
+        AtomicBoolean finished = new AtomicBoolean();
+
+        serverObserver.setOnCancelHandler(() -> finished.set(true));
+        serverObserver.setOnReadyHandler(() -> drain(serverObserver, source, finished));
+    }
+
+    private static <T> void drain(ServerCallStreamObserver<T> serverObserver, Iterator<T> source, AtomicBoolean finished) {
+        try {
+            while (!finished.get() && serverObserver.isReady()) {
+                if (!source.hasNext()) {
+                    finished.set(true);
+                    serverObserver.onCompleted();
+                    return;
+                }
+
+                serverObserver.onNext(source.next());
+            }
+        } catch (RuntimeException e) {
+            if (finished.compareAndSet(false, true)) {
+                serverObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+            }
+        }
+    }
+}
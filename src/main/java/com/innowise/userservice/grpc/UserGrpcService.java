@@ -0,0 +1,171 @@
+package com.innowise.userservice.grpc;
+
+import com.google.protobuf.Empty;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.grpc.proto.ChangeStatusRequest;
+import com.innowise.userservice.grpc.proto.ChangeStatusesRequest;
+import com.innowise.userservice.grpc.proto.CreateUserRequest;
+import com.innowise.userservice.grpc.proto.CreateUsersRequest;
+import com.innowise.userservice.grpc.proto.IdsRequest;
+import com.innowise.userservice.grpc.proto.SearchUsersRequest;
+import com.innowise.userservice.grpc.proto.UpdateUserRequest;
+import com.innowise.userservice.grpc.proto.UpdateUsersRequest;
+import com.innowise.userservice.grpc.proto.User;
+import com.innowise.userservice.grpc.proto.UserApiGrpc;
+import com.innowise.userservice.grpc.proto.UserBatchResponse;
+import com.innowise.userservice.grpc.proto.UserEmailRequest;
+import com.innowise.userservice.grpc.proto.UserIdRequest;
+import com.innowise.userservice.grpc.proto.UsersResponse;
+import com.innowise.userservice.loader.UserDtoBatchLoader;
+import com.innowise.userservice.service.UserService;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.innowise.userservice.grpc.StreamObservers.complete;
+import static com.innowise.userservice.grpc.StreamObservers.streamWhenReady;
+
+@Service
+@RequiredArgsConstructor
+public class UserGrpcService extends UserApiGrpc.UserApiImplBase {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final UserService userService;
+    private final UserDtoBatchLoader userDtoLoader;
+    private final GrpcMapper mapper;
+    private final GrpcRequestValidator validator;
+
+    @Override
+    public void create(CreateUserRequest request, StreamObserver<User> responseObserver) {
+        UserResponseDto created = userService.create(validator.validate(mapper.toDto(request)));
+
+        complete(responseObserver, mapper.toProto(created));
+    }
+
+    @Override
+    public void update(UpdateUserRequest request, StreamObserver<User> responseObserver) {
+        UserResponseDto updated = userService.update(request.getId(), validator.validate(mapper.toDto(request)),
+                request.hasIfMatch() ? request.getIfMatch() : null);
+
+        complete(responseObserver, mapper.toProto(updated));
+    }
+
+    @Override
+    public void delete(UserIdRequest request, StreamObserver<Empty> responseObserver) {
+        userService.delete(request.getId());
+
+        complete(responseObserver, Empty.getDefaultInstance());
+    }
+
+    @Override
+    public void changeStatus(ChangeStatusRequest request, StreamObserver<User> responseObserver) {
+        UserResponseDto updated = userService.changeStatus(request.getId(), request.getActive());
+
+        complete(responseObserver, mapper.toProto(updated));
+    }
+
+    @Override
+    public void createBatch(CreateUsersRequest request, StreamObserver<UserBatchResponse> responseObserver) {
+        var items = validator.validateBatch(request.getItemsList().stream().map(mapper::toDto).toList());
+
+        complete(responseObserver, mapper.toUserBatchResponse(userService.createBatch(items)));
+    }
+
+    @Override
+    public void updateBatch(UpdateUsersRequest request, StreamObserver<UserBatchResponse> responseObserver) {
+        var items = validator.validateBatch(request.getItemsList().stream().map(mapper::toDto).toList());
+
+        complete(responseObserver, mapper.toUserBatchResponse(userService.updateBatch(items)));
+    }
+
+    @Override
+    public void changeStatusBatch(ChangeStatusesRequest request, StreamObserver<UserBatchResponse> responseObserver) {
+        var items = validator.validateBatch(request.getItemsList().stream().map(mapper::toDto).toList());
+
+        complete(responseObserver, mapper.toUserBatchResponse(userService.changeStatusBatch(items)));
+    }
+
+    @Override
+    public void getById(UserIdRequest request, StreamObserver<User> responseObserver) {
+        UserResponseDto dto = userDtoLoader.findDtoById(request.getId(), request.getWithCards());
+
+        complete(responseObserver, mapper.toProto(dto));
+    }
+
+    @Override
+    public void getByEmail(UserEmailRequest request, StreamObserver<User> responseObserver) {
+        UserResponseDto dto = userService.findDtoByEmail(request.getEmail(), request.getWithCards());
+
+        complete(responseObserver, mapper.toProto(dto));
+    }
+
+    @Override
+    public void getByIds(IdsRequest request, StreamObserver<UsersResponse> responseObserver) {
+        var res = userService.findDtosByIds(request.getIdsList(), request.getWithCards());
+
+        complete(responseObserver, mapper.toProto(res));
+    }
+
+    @Override
+    public void search(SearchUsersRequest request, StreamObserver<User> responseObserver) {
+        LocalDate birthDate = request.hasBirthDate() ? LocalDate.parse(request.getBirthDate()) : null;
+        int pageSize = request.getPageSize() > 0 ? Math.min(request.getPageSize(), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+        streamWhenReady(responseObserver, new SearchCursor(request, birthDate, pageSize));
+    }
+
+    private class SearchCursor implements Iterator<User> {
+
+        private final SearchUsersRequest request;
+        private final LocalDate birthDate;
+        private final int pageSize;
+        private Iterator<UserResponseDto> page = Collections.emptyIterator();
+        private boolean lastPage;
+        private long lastId;
+
+        private SearchCursor(SearchUsersRequest request, LocalDate birthDate, int pageSize) {
+            this.request = request;
+            this.birthDate = birthDate;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !lastPage) {
+                List<UserResponseDto> next = userService.findAllAfterId(
+                        request.hasName() ? request.getName() : null,
+                        request.hasSurname() ? request.getSurname() : null,
+                        birthDate,
+                        request.hasActive() ? request.getActive() : null,
+                        request.getWithCards(),
+                        lastId,
+                        pageSize);
+
+                lastPage = next.size() < pageSize;
+                page = next.iterator();
+            }
+
+            return page.hasNext();
+        }
+
+        @Override
+        public User next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            UserResponseDto dto = page.next();
+            lastId = dto.getId();
+
+            return mapper.toProto(dto);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.innowise.userservice.loader;
+
+import com.innowise.userservice.config.LoaderProperties;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.exception.ServiceUnavailableException;
+import com.innowise.userservice.service.UserService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class UserDtoBatchLoader {
+
+    private final UserService userService;
+    private final RedisCacheManager redisCacheManager;
+    private final LoaderProperties loaderProperties;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService dispatcher;
+    private final Batcher withCards;
+    private final Batcher slim;
+
+    public UserDtoBatchLoader(UserService userService,
+                              RedisCacheManager redisCacheManager,
+                              LoaderProperties loaderProperties,
+                              MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.redisCacheManager = redisCacheManager;
+        this.loaderProperties = loaderProperties;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("user-loader-timer")
+                .daemon()
+                .factory());
+        this.dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+        this.withCards = new Batcher(true, meterRegistry);
+        this.slim = new Batcher(false, meterRegistry);
+    }
+
+    public UserResponseDto findDtoById(long id, boolean includeCards) {
+        if (!loaderProperties.isEnabled()) {
+            return load(id, includeCards);
+        }
+
+        Cache cache = redisCacheManager.getCache(includeCards ? "user" : "user-slim");
+        UserResponseDto cached = cache != null ? cache.get(id, UserResponseDto.class) : null;
+
+        if (cached != null) {
+            return cached;
+        }
+
+        UserResponseDto loaded = join((includeCards ? withCards : slim).enqueue(id));
+
+        return loaded != null ? loaded : load(id, includeCards);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        dispatcher.shutdown();
+    }
+
+    private UserResponseDto load(long id, boolean includeCards) {
+        return includeCards ? userService.findDtoById(id) : userService.findSlimDtoById(id);
+    }
+
+    private UserResponseDto join(CompletableFuture<UserResponseDto> future) {
+        try {
+            return future.get(loaderProperties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException("User lookup did not complete within " + loaderProperties.getTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new ServiceUnavailableException("User lookup was interrupted");
+        }
+    }
+
+    private static final class PendingBatch {
+        private final long openedAt = System.nanoTime();
+        private final Map<Long, CompletableFuture<UserResponseDto>> futures = new LinkedHashMap<>();
+    }
+
+    private final class Batcher {
+        private final boolean includeCards;
+        private final DistributionSummary batchSize;
+        private final Timer window;
+        private PendingBatch pending;
+
+        private Batcher(boolean includeCards, MeterRegistry meterRegistry) {
+            this.includeCards = includeCards;
+            this.batchSize = DistributionSummary.builder("users.loader.batch.size")
+                    .description("Distinct user ids resolved by one batched lookup")
+                    .tag("cards", String.valueOf(includeCards))
+                    .register(meterRegistry);
+            this.window = Timer.builder("users.loader.window")
+                    .description("Time a batch of cache misses waited before its lookup was dispatched")
+                    .tag("cards", String.valueOf(includeCards))
+                    .register(meterRegistry);
+        }
+
+        private CompletableFuture<UserResponseDto> enqueue(long id) {
+            CompletableFuture<UserResponseDto> future;
+            PendingBatch full = null;
+
+            synchronized (this) {
+                if (pending == null) {
+                    PendingBatch opened = new PendingBatch();
+                    pending = opened;
+                    scheduler.schedule(() -> dispatchIfPending(opened),
+                            loaderProperties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+                }
+
+                future = pending.futures.computeIfAbsent(id, key -> new CompletableFuture<>());
+
+                if (pending.futures.size() >= loaderProperties.getMaxBatchSize()) {
+                    full = pending;
+                    pending = null;
+                }
+            }
+
+            if (full != null) {
+                dispatch(full);
+            }
+
+            return future;
+        }
+
+        private void dispatchIfPending(PendingBatch batch) {
+            synchronized (this) {
+                if (pending != batch) {
+                    return;
+                }
+
+                pending = null;
+            }
+
+            dispatch(batch);
+        }
+
+        private void dispatch(PendingBatch batch) {
+            dispatcher.execute(() -> resolve(batch));
+        }
+
+        private void resolve(PendingBatch batch) {
+            window.record(System.nanoTime() - batch.openedAt, TimeUnit.NANOSECONDS);
+            batchSize.record(batch.futures.size());
+
+            try {
+                MultiGetResponseDto<UserResponseDto> res = userService.findDtosByIds(
+                        new ArrayList<>(batch.futures.keySet()), includeCards);
+
+                res.getItems().forEach(dto -> batch.futures.get(dto.getId()).complete(dto));
+                batch.futures.values().forEach(future -> future.complete(null));
+            } catch (RuntimeException e) {
+                batch.futures.values().forEach(future -> future.completeExceptionally(e));
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.innowise.userservice.mapper;
+
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.entity.ArchivedPaymentCard;
+import com.innowise.userservice.entity.ArchivedUser;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ArchivedUserMapper {
+
+    @Mapping(target = "archived", constant = "true")
+    UserResponseDto toDto(ArchivedUser archivedUser);
+
+    PaymentCardResponseDto toDto(ArchivedPaymentCard archivedPaymentCard);
+}
@@ -5,6 +5,7 @@ import com.innowise.userservice.dto.request.UserUpdateDto;
 import com.innowise.userservice.dto.response.UserResponseDto;
 import com.innowise.userservice.entity.User;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.springframework.data.domain.Page;
@@ -15,12 +16,21 @@ public interface UserMapper {
 
     User toEntity(UserCreateDto userCreateDto);
 
+    @Mapping(target = "archived", ignore = true)
     UserResponseDto toDto(User user);
 
+    @Mapping(target = "archived", ignore = true)
+    @Mapping(target = "paymentCards", ignore = true)
+    UserResponseDto toSlimDto(User user);
+
     default Page<UserResponseDto> toDto(Page<User> users) {
         return users.map(this::toDto);
     }
 
+    default Page<UserResponseDto> toSlimDto(Page<User> users) {
+        return users.map(this::toSlimDto);
+    }
+
     void updateEntityFromDto(UserUpdateDto userUpdateDto,
                              @MappingTarget User user);
 }
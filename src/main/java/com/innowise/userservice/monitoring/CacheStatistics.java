@@ -0,0 +1,29 @@
+package com.innowise.userservice.monitoring;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class CacheStatistics {
+    private final CacheStatistics parent;
+    private long operations;
+    private long cacheNanos;
+
+    public CacheStatistics(CacheStatistics parent) {
+        this.parent = parent;
+    }
+
+    public Duration getCacheTime() {
+        return Duration.ofNanos(cacheNanos);
+    }
+
+    void record(long nanos) {
+        operations++;
+        cacheNanos += nanos;
+
+        if (parent != null) {
+            parent.record(nanos);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.innowise.userservice.monitoring;
+
+import java.util.function.Supplier;
+
+public class CacheStatisticsHolder {
+    private static final ThreadLocal<CacheStatistics> CURRENT = new ThreadLocal<>();
+
+    public static CacheStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static CacheStatistics start() {
+        CacheStatistics statistics = new CacheStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+
+        return statistics;
+    }
+
+    public static void stop(CacheStatistics statistics) {
+        if (statistics.getParent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(statistics.getParent());
+        }
+    }
+
+    public static <T> T time(Supplier<T> operation) {
+        long started = System.nanoTime();
+
+        try {
+            return operation.get();
+        } finally {
+            record(System.nanoTime() - started);
+        }
+    }
+
+    public static void timeRun(Runnable operation) {
+        long started = System.nanoTime();
+
+        try {
+            operation.run();
+        } finally {
+            record(System.nanoTime() - started);
+        }
+    }
+
+    static void record(long nanos) {
+        CacheStatistics statistics = CURRENT.get();
+
+        if (statistics != null) {
+            statistics.record(nanos);
+        }
+    }
+}
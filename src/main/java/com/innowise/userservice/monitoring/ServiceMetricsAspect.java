@@ -0,0 +1,69 @@
+package com.innowise.userservice.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "monitoring.service", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.innowise.userservice.service.UserService+.*(..)) "
+            + "|| execution(public * com.innowise.userservice.service.PaymentCardService+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatistics sql = SqlStatisticsHolder.start();
+        CacheStatistics cache = CacheStatisticsHolder.start();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            SqlStatisticsHolder.stop(sql);
+            CacheStatisticsHolder.stop(cache);
+            record(joinPoint, sample, failure, sql, cache);
+        }
+    }
+
+    private void record(ProceedingJoinPoint joinPoint,
+                        Timer.Sample sample,
+                        Throwable failure,
+                        SqlStatistics sql,
+                        CacheStatistics cache) {
+        Tags tags = Tags.of("class", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                "method", joinPoint.getSignature().getName());
+
+        sample.stop(Timer.builder("app.service.calls")
+                .description("Service method latency")
+                .tags(tags)
+                .tag("outcome", failure == null ? "SUCCESS" : "ERROR")
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(meterRegistry));
+        Timer.builder("app.service.db.time")
+                .description("Time spent in JDBC per service call")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(sql.getJdbcTime());
+        Timer.builder("app.service.cache.time")
+                .description("Time spent in Redis cache operations per service call")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(cache.getCacheTime());
+    }
+}
@@ -0,0 +1,32 @@
+package com.innowise.userservice.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "slowqueries")
+@ConditionalOnProperty(prefix = "monitoring.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryMonitor slowQueryMonitor;
+
+    @ReadOperation
+    public List<SlowQuerySummary> top(@Nullable Integer limit) {
+        return slowQueryMonitor.top(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryMonitor.reset();
+    }
+}
@@ -0,0 +1,42 @@
+package com.innowise.userservice.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private final Supplier<SlowQueryMonitor> monitor;
+    private final DataSource dataSource;
+
+    public SlowQueryListener(Supplier<SlowQueryMonitor> monitor, DataSource dataSource) {
+        this.monitor = monitor;
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SlowQueryMonitor slowQueryMonitor = monitor.get();
+
+        if (slowQueryMonitor == null || !slowQueryMonitor.isSlow(execInfo.getElapsedTime())) {
+            return;
+        }
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            List<ParameterSetOperation> parameters = parametersList.isEmpty() ? List.of() : parametersList.getFirst();
+
+            slowQueryMonitor.record(queryInfo.getQuery(), execInfo.getElapsedTime(), parameters,
+                    execInfo.isBatch() || parametersList.size() > 1, dataSource);
+        }
+    }
+}
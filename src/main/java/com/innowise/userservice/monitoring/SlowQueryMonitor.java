@@ -0,0 +1,206 @@
+package com.innowise.userservice.monitoring;
+
+import com.innowise.userservice.config.SlowQueryProperties;
+import com.innowise.userservice.util.SqlStatementHelper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "monitoring.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryMonitor {
+
+    private static final String EXPLAIN_STATEMENT = "slow_query_explain";
+
+    private final SlowQueryProperties properties;
+    private final Map<String, SlowQueryStats> statistics = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryMonitor(SlowQueryProperties properties) {
+        this.properties = properties;
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(properties.getExplain().getQueueCapacity(), 1)),
+                Thread.ofPlatform().name("slow-query-explain").daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean isSlow(long elapsedMillis) {
+        return elapsedMillis >= properties.getThreshold().toMillis();
+    }
+
+    public void record(String sql, long elapsedMillis, List<ParameterSetOperation> parameters, boolean batch,
+                       DataSource dataSource) {
+        String statement = SqlStatementHelper.truncate(SqlStatementHelper.normalize(sql),
+                properties.getMaxStatementLength());
+        String operation = SqlStatementHelper.operation(statement);
+
+        log.warn("Slow {} query took {} ms{}: {} params={}", operation, elapsedMillis, batch ? " (batch)" : "",
+                statement, redact(parameters));
+
+        SlowQueryStats stats = stats(statement, operation);
+
+        if (stats == null) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        stats.record(elapsedMillis, now);
+
+        if (shouldExplain(operation, parameters, batch) && stats.tryStartExplain(now, properties.getExplain().getRefreshInterval())) {
+            List<ParameterSetOperation> bound = List.copyOf(parameters);
+
+            try {
+                explainExecutor.execute(() -> explain(stats, sql, bound, dataSource));
+            } catch (RuntimeException e) {
+                stats.explainFinished(null, null);
+            }
+        }
+    }
+
+    public List<SlowQuerySummary> top(int limit) {
+        return statistics.values().stream()
+                .sorted(Comparator.comparingLong(SlowQueryStats::totalMillis).reversed())
+                .limit(Math.max(limit, 0))
+                .map(SlowQueryStats::summary)
+                .toList();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private SlowQueryStats stats(String statement, String operation) {
+        SlowQueryStats stats = statistics.get(statement);
+
+        if (stats != null || statistics.size() >= properties.getMaxStatements()) {
+            return stats;
+        }
+
+        return statistics.computeIfAbsent(statement, key -> new SlowQueryStats(key, operation));
+    }
+
+    private boolean shouldExplain(String operation, List<ParameterSetOperation> parameters, boolean batch) {
+        SlowQueryProperties.Explain explain = properties.getExplain();
+
+        return explain.isEnabled()
+                && !batch
+                && ("SELECT".equals(operation) || "WITH".equals(operation))
+                && parameters.stream().allMatch(SlowQueryMonitor::isBindable)
+                && ThreadLocalRandom.current().nextDouble() < explain.getSampleRate();
+    }
+
+    private void explain(SlowQueryStats stats, String sql, List<ParameterSetOperation> parameters, DataSource dataSource) {
+        String plan = null;
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+
+            try (Statement statement = connection.createStatement()) {
+                boolean prepared = false;
+
+                try {
+                    statement.execute("SET LOCAL statement_timeout = " + properties.getExplain().getTimeout().toMillis());
+                    statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                    statement.execute("PREPARE " + EXPLAIN_STATEMENT + " AS " + SqlStatementHelper.positional(sql));
+                    prepared = true;
+                    plan = SqlStatementHelper.redactPlan(explainPrepared(connection, parameters));
+                } finally {
+                    connection.rollback();
+
+                    if (prepared) {
+                        statement.execute("DEALLOCATE " + EXPLAIN_STATEMENT);
+                        connection.rollback();
+                    }
+                }
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("EXPLAIN failed for slow query {}: {}", stats.statement(), e.getMessage());
+        } finally {
+            stats.explainFinished(plan, Instant.now());
+        }
+
+        if (plan != null) {
+            log.debug("Plan for slow query {}:\n{}", stats.statement(), plan);
+        }
+    }
+
+    private static String explainPrepared(Connection connection, List<ParameterSetOperation> parameters)
+            throws SQLException {
+        String arguments = parameters.isEmpty() ? ""
+                : parameters.stream().map(parameter -> "?").collect(Collectors.joining(", ", "(", ")"));
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "EXPLAIN (ANALYZE, BUFFERS) EXECUTE " + EXPLAIN_STATEMENT + arguments)) {
+            for (ParameterSetOperation parameter : parameters) {
+                bind(statement, parameter);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder lines = new StringBuilder();
+
+                while (resultSet.next()) {
+                    lines.append(resultSet.getString(1)).append('\n');
+                }
+
+                return lines.toString();
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement statement, ParameterSetOperation parameter) throws SQLException {
+        Object[] args = parameter.getArgs();
+        int index = (Integer) args[0];
+
+        if ("setNull".equals(parameter.getMethod().getName())) {
+            statement.setNull(index, (Integer) args[1]);
+        } else {
+            statement.setObject(index, args[1]);
+        }
+    }
+
+    private static boolean isBindable(ParameterSetOperation parameter) {
+        Object[] args = parameter.getArgs();
+
+        return args != null && args.length >= 2 && args[0] instanceof Integer
+                && parameter.getMethod().getName().startsWith("set");
+    }
+
+    private static String redact(List<ParameterSetOperation> parameters) {
+        return parameters.stream()
+                .filter(parameter -> parameter.getArgs() != null && parameter.getArgs().length >= 2)
+                .map(parameter -> parameter.getArgs()[0] + ":" + ("setNull".equals(parameter.getMethod().getName())
+                        ? "null"
+                        : typeName(parameter.getArgs()[1])))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String typeName(Object value) {
+        return value == null ? "null" : value.getClass().getSimpleName();
+    }
+}
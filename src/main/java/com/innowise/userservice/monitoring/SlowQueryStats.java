@@ -0,0 +1,70 @@
+package com.innowise.userservice.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+class SlowQueryStats {
+    private final String statement;
+    private final String operation;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final AtomicLong maxMillis = new AtomicLong();
+    private final AtomicBoolean explaining = new AtomicBoolean();
+    private volatile Instant lastSeen;
+    private volatile String plan;
+    private volatile Instant planCapturedAt;
+
+    SlowQueryStats(String statement, String operation) {
+        this.statement = statement;
+        this.operation = operation;
+    }
+
+    String statement() {
+        return statement;
+    }
+
+    String operation() {
+        return operation;
+    }
+
+    long totalMillis() {
+        return totalMillis.sum();
+    }
+
+    void record(long elapsedMillis, Instant now) {
+        count.increment();
+        totalMillis.add(elapsedMillis);
+        maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+        lastSeen = now;
+    }
+
+    boolean tryStartExplain(Instant now, Duration refreshInterval) {
+        Instant capturedAt = planCapturedAt;
+
+        if (capturedAt != null && capturedAt.plus(refreshInterval).isAfter(now)) {
+            return false;
+        }
+
+        return explaining.compareAndSet(false, true);
+    }
+
+    void explainFinished(String plan, Instant capturedAt) {
+        if (plan != null) {
+            this.plan = plan;
+            this.planCapturedAt = capturedAt;
+        }
+
+        explaining.set(false);
+    }
+
+    SlowQuerySummary summary() {
+        long executions = count.sum();
+        long total = totalMillis.sum();
+
+        return new SlowQuerySummary(statement, operation, executions, total,
+                executions == 0 ? 0 : (double) total / executions, maxMillis.get(), lastSeen, plan, planCapturedAt);
+    }
+}
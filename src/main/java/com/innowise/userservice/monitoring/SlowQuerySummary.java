@@ -0,0 +1,14 @@
+package com.innowise.userservice.monitoring;
+
+import java.time.Instant;
+
+public record SlowQuerySummary(String statement,
+                               String operation,
+                               long count,
+                               long totalMillis,
+                               double meanMillis,
+                               long maxMillis,
+                               Instant lastSeen,
+                               String plan,
+                               Instant planCapturedAt) {
+}
@@ -0,0 +1,44 @@
+package com.innowise.userservice.monitoring;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class SqlStatistics {
+    private final SqlStatistics parent;
+    private long statements;
+    private long rows;
+    private long jdbcNanos;
+    private long statementStartedAt;
+
+    public SqlStatistics(SqlStatistics parent) {
+        this.parent = parent;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    void statementStarted() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    void statementFinished(long rowsAffected) {
+        record(1, rowsAffected, System.nanoTime() - statementStartedAt);
+    }
+
+    void rowRead() {
+        record(0, 1, 0);
+    }
+
+    private void record(long statements, long rows, long jdbcNanos) {
+        this.statements += statements;
+        this.rows += rows;
+        this.jdbcNanos += jdbcNanos;
+
+        if (parent != null) {
+            parent.record(statements, rows, jdbcNanos);
+        }
+    }
+}
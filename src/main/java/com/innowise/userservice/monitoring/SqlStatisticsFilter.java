@@ -0,0 +1,66 @@
+package com.innowise.userservice.monitoring;
+
+import com.innowise.userservice.config.SqlMonitoringProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "monitoring.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private final SqlMonitoringProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatisticsHolder.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatisticsHolder.stop(statistics);
+
+            if (properties.isMetricsEnabled()) {
+                record(request, statistics);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(),
+                "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .description("Rows read or affected per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Time spent in JDBC per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statistics.getJdbcTime());
+    }
+}
@@ -0,0 +1,24 @@
+package com.innowise.userservice.monitoring;
+
+public class SqlStatisticsHolder {
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics(CURRENT.get());
+        CURRENT.set(statistics);
+
+        return statistics;
+    }
+
+    public static void stop(SqlStatistics statistics) {
+        if (statistics.getParent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(statistics.getParent());
+        }
+    }
+}
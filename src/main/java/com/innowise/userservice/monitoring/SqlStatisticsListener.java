@@ -0,0 +1,64 @@
+package com.innowise.userservice.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+
+public class SqlStatisticsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatistics statistics = SqlStatisticsHolder.current();
+
+        if (statistics != null) {
+            statistics.statementStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatistics statistics = SqlStatisticsHolder.current();
+
+        if (statistics != null) {
+            statistics.statementFinished(rowsAffected(execInfo.getResult()));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        SqlStatistics statistics = SqlStatisticsHolder.current();
+
+        if (statistics != null
+                && executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            statistics.rowRead();
+        }
+    }
+
+    private long rowsAffected(Object result) {
+        if (result instanceof Number number) {
+            return Math.max(number.longValue(), 0);
+        }
+
+        if (result instanceof int[] counts) {
+            return Arrays.stream(counts).filter(count -> count > 0).sum();
+        }
+
+        if (result instanceof long[] counts) {
+            return Arrays.stream(counts).filter(count -> count > 0).sum();
+        }
+
+        return 0;
+    }
+}
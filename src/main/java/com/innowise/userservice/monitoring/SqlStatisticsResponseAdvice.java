@@ -0,0 +1,42 @@
+package com.innowise.userservice.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "monitoring.sql", name = "headers-enabled", havingValue = "true")
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        SqlStatistics statistics = SqlStatisticsHolder.current();
+
+        if (statistics != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+            response.getHeaders().set(ROWS_HEADER, String.valueOf(statistics.getRows()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(statistics.getJdbcTime().toMillis()));
+        }
+
+        return body;
+    }
+}
@@ -0,0 +1,135 @@
+package com.innowise.userservice.monitoring;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class TimedCache implements Cache {
+
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+    private static final String NONE = "none";
+
+    private final Cache delegate;
+    private final ObservationRegistry observationRegistry;
+
+    public TimedCache(Cache delegate) {
+        this(delegate, ObservationRegistry.NOOP);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return observe("get", true, () -> delegate.get(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return observe("get", true, () -> delegate.get(key, type));
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long[] loaderNanos = new long[1];
+        long started = System.nanoTime();
+
+        try {
+            return delegate.get(key, () -> {
+                long loadStarted = System.nanoTime();
+
+                try {
+                    return valueLoader.call();
+                } finally {
+                    loaderNanos[0] += System.nanoTime() - loadStarted;
+                }
+            });
+        } finally {
+            CacheStatisticsHolder.record(System.nanoTime() - started - loaderNanos[0]);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        observe("put", false, () -> {
+            delegate.put(key, value);
+            return null;
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return observe("putIfAbsent", false, () -> delegate.putIfAbsent(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        observe("evict", false, () -> {
+            delegate.evict(key);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return observe("evict", false, () -> delegate.evictIfPresent(key));
+    }
+
+    @Override
+    public void clear() {
+        observe("clear", false, () -> {
+            delegate.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean invalidate() {
+        return observe("clear", false, delegate::invalidate);
+    }
+
+    private <T> T observe(String operation, boolean read, Supplier<T> action) {
+        Observation observation = Observation.createNotStarted("app.cache", observationRegistry)
+                .contextualName(operation + " " + getName())
+                .lowCardinalityKeyValue("cache", getName())
+                .lowCardinalityKeyValue("operation", operation)
+                .start();
+
+        try (Observation.Scope scope = observation.openScope()) {
+            T result = CacheStatisticsHolder.time(action);
+            observation.lowCardinalityKeyValue("result", read ? (result != null ? HIT : MISS) : NONE);
+
+            return result;
+        } catch (RuntimeException e) {
+            observation.lowCardinalityKeyValue("result", NONE);
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.innowise.userservice.monitoring;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.util.Map;
+
+public class TimedRedisCacheManager extends RedisCacheManager {
+
+    private final ObservationRegistry observationRegistry;
+
+    public TimedRedisCacheManager(RedisCacheWriter cacheWriter,
+                                  RedisCacheConfiguration defaultCacheConfiguration,
+                                  Map<String, RedisCacheConfiguration> initialCacheConfigurations,
+                                  ObservationRegistry observationRegistry) {
+        super(cacheWriter, defaultCacheConfiguration, initialCacheConfigurations);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    protected Cache decorateCache(Cache cache) {
+        return new TimedCache(super.decorateCache(cache), observationRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.innowise.userservice.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Table("payment_cards")
+public record PaymentCardRow(@Id Long id,
+                             Long userId,
+                             String number,
+                             String holder,
+                             LocalDate expirationDate,
+                             Boolean active,
+                             Instant createdAt,
+                             Instant updatedAt) {
+}
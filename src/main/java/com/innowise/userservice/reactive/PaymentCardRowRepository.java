@@ -0,0 +1,8 @@
+package com.innowise.userservice.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+public interface PaymentCardRowRepository extends R2dbcRepository<PaymentCardRow, Long> {
+    Flux<PaymentCardRow> findAllByUserId(long userId);
+}
@@ -0,0 +1,39 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.config.CacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveDtoCache {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveCacheRedisTemplate;
+    private final CacheProperties cacheProperties;
+
+    public <T> Mono<T> get(String cacheName, long key, Class<T> type) {
+        return reactiveCacheRedisTemplate.opsForValue()
+                .get(redisKey(cacheName, key))
+                .filter(type::isInstance)
+                .map(type::cast);
+    }
+
+    public Mono<Boolean> put(String cacheName, long key, Object value) {
+        Duration ttl = cacheProperties.getTtl().get(cacheName);
+
+        return ttl != null
+                ? reactiveCacheRedisTemplate.opsForValue().set(redisKey(cacheName, key), value, ttl)
+                : reactiveCacheRedisTemplate.opsForValue().set(redisKey(cacheName, key), value);
+    }
+
+    private String redisKey(String cacheName, long key) {
+        return CacheKeyPrefix.simple().compute(cacheName) + key;
+    }
+}
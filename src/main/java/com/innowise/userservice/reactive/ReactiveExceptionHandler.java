@@ -0,0 +1,33 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.dto.response.ErrorResponse;
+import com.innowise.userservice.exception.UserNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import static com.innowise.userservice.util.ErrorResponseHelper.buildErrorResponse;
+
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException e,
+                                                            ServerHttpRequest request) {
+        var body = buildErrorResponse(e, HttpStatus.NOT_FOUND, request.getPath().value());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e,
+                                                         ServerHttpRequest request) {
+        var body = buildErrorResponse(e, HttpStatus.INTERNAL_SERVER_ERROR, request.getPath().value());
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+    }
+}
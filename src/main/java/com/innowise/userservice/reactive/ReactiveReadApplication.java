@@ -0,0 +1,35 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.config.CacheProperties;
+import com.innowise.userservice.config.JacksonConfig;
+import com.innowise.userservice.config.RedisConfig;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+@ComponentScan(basePackageClasses = ReactiveReadApplication.class)
+@Import({RedisConfig.class, JacksonConfig.class})
+@EnableConfigurationProperties(CacheProperties.class)
+@Profile(ReactiveReadApplication.PROFILE)
+public class ReactiveReadApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .profiles(PROFILE)
+                .run(args);
+    }
+}
@@ -0,0 +1,46 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.util.ETagHelper;
+import com.innowise.userservice.util.SparseFieldsHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveReadController {
+
+    private final ReactiveReadService readService;
+
+    @GetMapping("/users/{id}")
+    public Mono<ResponseEntity<UserResponseDto>> getUserById(@PathVariable Long id,
+                                                             @RequestParam(required = false) Set<String> exclude) {
+        return readService.findUserDtoById(id, SparseFieldsHelper.includesCards(null, null, exclude))
+                .map(dto -> ResponseEntity.status(HttpStatus.OK).eTag(ETagHelper.userETag(dto)).body(dto));
+    }
+
+    @GetMapping("/users/email/{email}")
+    public Mono<ResponseEntity<UserResponseDto>> getUserByEmail(@PathVariable String email,
+                                                                @RequestParam(required = false) Set<String> exclude) {
+        return readService.findUserDtoByEmail(email, SparseFieldsHelper.includesCards(null, null, exclude))
+                .map(dto -> ResponseEntity.status(HttpStatus.OK).eTag(ETagHelper.userETag(dto)).body(dto));
+    }
+
+    @GetMapping("/cards/user/{userId}")
+    public Mono<ResponseEntity<List<PaymentCardResponseDto>>> findAllCardsForUser(@PathVariable Long userId) {
+        return readService.findCardDtosByUserId(userId)
+                .map(cards -> ResponseEntity.status(HttpStatus.OK).eTag(ETagHelper.cardsETag(userId, cards)).body(cards));
+    }
+}
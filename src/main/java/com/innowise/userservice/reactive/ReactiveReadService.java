@@ -0,0 +1,95 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.exception.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveReadService {
+
+    private final UserRowRepository userRowRepo;
+    private final PaymentCardRowRepository paymentCardRowRepo;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final RowMapper mapper;
+    private final ReactiveDtoCache cache;
+
+    public Mono<UserResponseDto> findUserDtoById(long id, boolean withCards) {
+        String cacheName = withCards ? "user" : "user-slim";
+
+        return cache.get(cacheName, id, UserResponseDto.class)
+                .switchIfEmpty(Mono.defer(() -> loadUser(id, withCards)
+                        .flatMap(dto -> cache.put(cacheName, id, dto).thenReturn(dto))))
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("id", String.valueOf(id))));
+    }
+
+    public Mono<UserResponseDto> findUserDtoByEmail(String email, boolean withCards) {
+        return userRowRepo.findByEmail(email)
+                .flatMap(row -> withCards
+                        ? attachCards(mapper.toDto(row), paymentCardRowRepo.findAllByUserId(row.id()))
+                        : Mono.just(mapper.toDto(row)))
+                .switchIfEmpty(Mono.defer(() -> loadArchivedUser(where("email").is(email), withCards)))
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("email", email)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Mono<List<PaymentCardResponseDto>> findCardDtosByUserId(long userId) {
+        return cache.get("cards", userId, List.class)
+                .map(cards -> (List<PaymentCardResponseDto>) cards)
+                .switchIfEmpty(Mono.defer(() -> paymentCardRowRepo.findAllByUserId(userId)
+                        .map(mapper::toDto)
+                        .collectList()
+                        .flatMap(cards -> cache.put("cards", userId, cards).thenReturn(cards))));
+    }
+
+    private Mono<UserResponseDto> loadUser(long id, boolean withCards) {
+        Mono<UserResponseDto> hot = userRowRepo.findById(id)
+                .flatMap(row -> withCards
+                        ? attachCards(mapper.toDto(row), paymentCardRowRepo.findAllByUserId(id))
+                        : Mono.just(mapper.toDto(row)));
+
+        return hot.switchIfEmpty(Mono.defer(() -> loadArchivedUser(where("id").is(id), withCards)));
+    }
+
+    private Mono<UserResponseDto> loadArchivedUser(Criteria criteria, boolean withCards) {
+        return entityTemplate.select(UserRow.class)
+                .from("users_archive")
+                .matching(query(criteria))
+                .one()
+                .map(row -> {
+                    UserResponseDto dto = mapper.toDto(row);
+                    dto.setArchived(true);
+
+                    return dto;
+                })
+                .flatMap(dto -> withCards
+                        ? attachCards(dto, entityTemplate.select(PaymentCardRow.class)
+                                .from("payment_cards_archive")
+                                .matching(query(where("userId").is(dto.getId())))
+                                .all())
+                        : Mono.just(dto));
+    }
+
+    private Mono<UserResponseDto> attachCards(UserResponseDto dto, Flux<PaymentCardRow> cards) {
+        return cards.map(mapper::toDto)
+                .collectList()
+                .map(list -> {
+                    dto.setPaymentCards(list);
+
+                    return dto;
+                });
+    }
+}
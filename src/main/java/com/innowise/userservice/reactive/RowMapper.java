@@ -0,0 +1,16 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface RowMapper {
+
+    @Mapping(target = "archived", ignore = true)
+    @Mapping(target = "paymentCards", ignore = true)
+    UserResponseDto toDto(UserRow userRow);
+
+    PaymentCardResponseDto toDto(PaymentCardRow paymentCardRow);
+}
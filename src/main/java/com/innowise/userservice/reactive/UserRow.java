@@ -0,0 +1,18 @@
+package com.innowise.userservice.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Table("users")
+public record UserRow(@Id Long id,
+                      String name,
+                      String surname,
+                      LocalDate birthDate,
+                      String email,
+                      Boolean active,
+                      Instant createdAt,
+                      Instant updatedAt) {
+}
@@ -0,0 +1,8 @@
+package com.innowise.userservice.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface UserRowRepository extends R2dbcRepository<UserRow, Long> {
+    Mono<UserRow> findByEmail(String email);
+}
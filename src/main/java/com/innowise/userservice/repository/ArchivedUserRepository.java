@@ -0,0 +1,94 @@
+package com.innowise.userservice.repository;
+
+import com.innowise.userservice.entity.ArchivedUser;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ArchivedUserRepository extends JpaRepository<ArchivedUser, Long> {
+
+    boolean existsByEmail(String email);
+
+    @Query("SELECT u.email FROM ArchivedUser u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @EntityGraph(attributePaths = "paymentCards")
+    @Query("SELECT u FROM ArchivedUser u WHERE u.id IN :ids")
+    List<ArchivedUser> findAllWithCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id FROM ArchivedPaymentCard c WHERE c.user.id IN :userIds")
+    List<Long> findCardIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query(
+            value = """
+                    WITH moved_users AS (
+                        DELETE FROM users
+                        WHERE id IN (
+                            SELECT id FROM users
+                            WHERE active = false AND updated_at < :inactiveBefore
+                            ORDER BY id
+                            LIMIT :batchSize
+                            FOR UPDATE SKIP LOCKED
+                        )
+                        RETURNING id, name, surname, birth_date, email, active, created_at, updated_at
+                    ),
+                    archived_users AS (
+                        INSERT INTO users_archive
+                            (id, name, surname, birth_date, email, active, created_at, updated_at, archived_at)
+                        SELECT id, name, surname, birth_date, email, active, created_at, updated_at, now()
+                        FROM moved_users
+                        RETURNING id
+                    ),
+                    moved_cards AS (
+                        DELETE FROM payment_cards
+                        WHERE user_id IN (SELECT id FROM moved_users)
+                        RETURNING id, user_id, number, holder, expiration_date, active, created_at, updated_at
+                    ),
+                    archived_cards AS (
+                        INSERT INTO payment_cards_archive
+                            (id, user_id, number, holder, expiration_date, active, created_at, updated_at)
+                        SELECT id, user_id, number, holder, expiration_date, active, created_at, updated_at
+                        FROM moved_cards
+                    )
+                    SELECT id FROM archived_users
+                    """,
+            nativeQuery = true
+    )
+    List<Long> archiveInactiveBatch(@Param("inactiveBefore") Instant inactiveBefore,
+                                    @Param("batchSize") int batchSize);
+
+    @Query(
+            value = """
+                    WITH restored_user AS (
+                        DELETE FROM users_archive
+                        WHERE id = :id
+                        RETURNING id, name, surname, birth_date, email, active, created_at, updated_at
+                    ),
+                    inserted_user AS (
+                        INSERT INTO users (id, name, surname, birth_date, email, active, created_at, updated_at)
+                        SELECT id, name, surname, birth_date, email, active, created_at, updated_at
+                        FROM restored_user
+                        RETURNING id
+                    ),
+                    restored_cards AS (
+                        DELETE FROM payment_cards_archive
+                        WHERE user_id = :id
+                        RETURNING id, user_id, number, holder, expiration_date, active, created_at, updated_at
+                    ),
+                    inserted_cards AS (
+                        INSERT INTO payment_cards
+                            (id, user_id, number, holder, expiration_date, active, created_at, updated_at)
+                        SELECT id, user_id, number, holder, expiration_date, active, created_at, updated_at
+                        FROM restored_cards
+                    )
+                    SELECT count(*) FROM inserted_user
+                    """,
+            nativeQuery = true
+    )
+    long restoreById(@Param("id") long id);
+}
@@ -1,11 +1,17 @@
 package com.innowise.userservice.repository;
 
 import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.repository.projection.CardRef;
+import com.innowise.userservice.repository.projection.UserCardCount;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +22,46 @@ public interface PaymentCardRepository extends JpaRepository<PaymentCard, Long>,
     @Query("SELECT pc FROM PaymentCard pc WHERE pc.user.id = :userId")
     List<PaymentCard> findAllByUserId(@Param("userId") long id);
 
+    @Query("SELECT COUNT(pc) FROM PaymentCard pc WHERE pc.user.id = :userId")
+    long countByUserId(@Param("userId") long userId);
+
+    @Query("SELECT pc.user.id AS userId, COUNT(pc) AS cards FROM PaymentCard pc WHERE pc.user.id IN :userIds GROUP BY pc.user.id")
+    List<UserCardCount> countByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT pc FROM PaymentCard pc WHERE pc.user.id IN :userIds ORDER BY pc.id")
+    List<PaymentCard> findAllByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     @Query(
             value = "SELECT * FROM payment_cards pc WHERE pc.number = :cardNumber",
             nativeQuery = true
     )
     Optional<PaymentCard> findByNumber(@Param("cardNumber") String number);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pc FROM PaymentCard pc WHERE pc.id = :id")
+    Optional<PaymentCard> findForUpdateById(@Param("id") long id);
+
+    @Query("SELECT pc.number FROM PaymentCard pc WHERE pc.number IN :numbers")
+    List<String> findNumbersIn(@Param("numbers") Collection<String> numbers);
+
+    @Query(
+            value = """
+                    UPDATE payment_cards
+                    SET active = false, updated_at = now()
+                    WHERE id IN (
+                        SELECT id FROM payment_cards
+                        WHERE active = true AND expiration_date < :today
+                        ORDER BY id
+                        LIMIT :batchSize
+                        FOR UPDATE SKIP LOCKED
+                    )
+                    RETURNING id AS "id", user_id AS "userId"
+                    """,
+            nativeQuery = true
+    )
+    List<CardRef> deactivateExpiredBatch(@Param("today") LocalDate today,
+                                         @Param("batchSize") int batchSize);
+
+    @Query("SELECT MIN(pc.expirationDate) FROM PaymentCard pc WHERE pc.active = true AND pc.expirationDate < :today")
+    Optional<LocalDate> findOldestExpiredActive(@Param("today") LocalDate today);
 }
@@ -1,11 +1,32 @@
 package com.innowise.userservice.repository;
 
 import com.innowise.userservice.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     Optional<User> findByEmail(String email);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findForUpdateById(@Param("id") long id);
+
+    @EntityGraph(attributePaths = "paymentCards")
+    @Query("SELECT u FROM User u WHERE u.id IN :ids")
+    List<User> findAllWithCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
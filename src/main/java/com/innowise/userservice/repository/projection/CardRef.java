@@ -0,0 +1,7 @@
+package com.innowise.userservice.repository.projection;
+
+public interface CardRef {
+    Long getId();
+
+    Long getUserId();
+}
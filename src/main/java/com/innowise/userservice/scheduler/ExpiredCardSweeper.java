@@ -0,0 +1,111 @@
+package com.innowise.userservice.scheduler;
+
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.EntityCacheEvictor;
+import com.innowise.userservice.config.CardProperties;
+import com.innowise.userservice.repository.projection.CardRef;
+import com.innowise.userservice.service.PaymentCardService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "user.card.sweeper", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredCardSweeper {
+
+    private final PaymentCardService paymentCardService;
+    private final BatchCacheEvictor cacheEvictor;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final CardProperties cardProperties;
+    private final Counter deactivatedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagDays = new AtomicLong();
+
+    public ExpiredCardSweeper(PaymentCardService paymentCardService,
+                              BatchCacheEvictor cacheEvictor,
+                              EntityCacheEvictor entityCacheEvictor,
+                              CardProperties cardProperties,
+                              MeterRegistry meterRegistry) {
+        this.paymentCardService = paymentCardService;
+        this.cacheEvictor = cacheEvictor;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.cardProperties = cardProperties;
+        this.deactivatedCounter = Counter.builder("cards.sweeper.deactivated")
+                .description("Expired cards deactivated by the sweeper")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("cards.sweeper.batch")
+                .description("Time spent deactivating one batch of expired cards")
+                .register(meterRegistry);
+        Gauge.builder("cards.sweeper.lag", lagDays, AtomicLong::get)
+                .description("Age of the oldest expired card that is still active")
+                .baseUnit("days")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${user.card.sweeper.fixed-delay:PT1M}")
+    public void sweep() {
+        sweep(LocalDate.now());
+    }
+
+    public int sweep(LocalDate today) {
+        CardProperties.Sweeper sweeper = cardProperties.getSweeper();
+        int total = 0;
+
+        for (int i = 0; i < sweeper.getMaxBatchesPerRun(); i++) {
+            List<CardRef> batch = batchTimer.record(() ->
+                    paymentCardService.deactivateExpired(today, sweeper.getBatchSize()));
+
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            evictCaches(batch);
+            deactivatedCounter.increment(batch.size());
+            total += batch.size();
+
+            if (batch.size() < sweeper.getBatchSize()) {
+                break;
+            }
+        }
+
+        lagDays.set(paymentCardService.findOldestExpiredActive(today)
+                .map(oldest -> ChronoUnit.DAYS.between(oldest, today))
+                .orElse(0L));
+
+        if (total > 0) {
+            log.info("Deactivated {} expired payment cards", total);
+        }
+
+        return total;
+    }
+
+    private void evictCaches(List<CardRef> batch) {
+        List<Long> cardIds = batch.stream()
+                .map(CardRef::getId)
+                .toList();
+
+        List<Long> userIds = batch.stream()
+                .map(CardRef::getUserId)
+                .distinct()
+                .toList();
+
+        entityCacheEvictor.evictCards(cardIds);
+        cacheEvictor.evict("card", cardIds);
+        cacheEvictor.evict("card-json", cardIds);
+        cacheEvictor.evict("cards", userIds);
+        cacheEvictor.evict("cards-json", userIds);
+        cacheEvictor.evict("user", userIds);
+        cacheEvictor.evict("user-json", userIds);
+    }
+}
@@ -0,0 +1,90 @@
+package com.innowise.userservice.scheduler;
+
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.EntityCacheEvictor;
+import com.innowise.userservice.config.ArchiveProperties;
+import com.innowise.userservice.service.UserArchiveService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "user.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InactiveUserArchiver {
+
+    private final UserArchiveService userArchiveService;
+    private final BatchCacheEvictor cacheEvictor;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final ArchiveProperties archiveProperties;
+    private final Counter archivedCounter;
+    private final Timer batchTimer;
+
+    public InactiveUserArchiver(UserArchiveService userArchiveService,
+                                BatchCacheEvictor cacheEvictor,
+                                EntityCacheEvictor entityCacheEvictor,
+                                ArchiveProperties archiveProperties,
+                                MeterRegistry meterRegistry) {
+        this.userArchiveService = userArchiveService;
+        this.cacheEvictor = cacheEvictor;
+        this.entityCacheEvictor = entityCacheEvictor;
+        this.archiveProperties = archiveProperties;
+        this.archivedCounter = Counter.builder("users.archive.archived")
+                .description("Inactive users moved to the archive tables")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("users.archive.batch")
+                .description("Time spent archiving one batch of inactive users")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${user.archive.fixed-delay:PT10M}")
+    public void archive() {
+        archive(Instant.now());
+    }
+
+    public int archive(Instant now) {
+        Instant inactiveBefore = now.minus(archiveProperties.getInactiveAfter());
+        int batchSize = archiveProperties.getBatchSize();
+        int total = 0;
+
+        for (int i = 0; i < archiveProperties.getMaxBatchesPerRun(); i++) {
+            List<Long> userIds = batchTimer.record(() ->
+                    userArchiveService.archiveInactive(inactiveBefore, batchSize));
+
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            List<Long> cardIds = userArchiveService.findArchivedCardIds(userIds);
+
+            entityCacheEvictor.evictUsersWithCards(userIds, cardIds);
+            cacheEvictor.evict("user", userIds);
+            cacheEvictor.evict("user-slim", userIds);
+            cacheEvictor.evict("user-json", userIds);
+            cacheEvictor.evict("user-slim-json", userIds);
+            cacheEvictor.evict("cards", userIds);
+            cacheEvictor.evict("cards-json", userIds);
+            cacheEvictor.evict("card", cardIds);
+            cacheEvictor.evict("card-json", cardIds);
+            archivedCounter.increment(userIds.size());
+            total += userIds.size();
+
+            if (userIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Archived {} inactive users", total);
+        }
+
+        return total;
+    }
+}
@@ -2,13 +2,19 @@ package com.innowise.userservice.service;
 
 import com.innowise.userservice.dto.request.PaymentCardCreateDto;
 import com.innowise.userservice.dto.request.PaymentCardUpdateDto;
+import com.innowise.userservice.dto.request.StatusChangeDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
 import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserCardsResponseDto;
 import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.repository.projection.CardRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface PaymentCardService {
 
@@ -16,12 +22,20 @@ public interface PaymentCardService {
 
     PaymentCardResponseDto create(PaymentCardCreateDto paymentCardCreateDto);
 
-    PaymentCardResponseDto update(long id, PaymentCardUpdateDto paymentCardUpdateDto);
+    PaymentCardResponseDto update(long id, PaymentCardUpdateDto paymentCardUpdateDto, String ifMatch);
 
     void delete(long id);
 
     PaymentCardResponseDto changeStatus(long id, boolean status);
 
+    List<BatchItemResultDto<PaymentCardResponseDto>> createBatch(List<PaymentCardCreateDto> paymentCardCreateDtos);
+
+    List<BatchItemResultDto<PaymentCardResponseDto>> updateBatch(List<PaymentCardUpdateDto> paymentCardUpdateDtos);
+
+    List<BatchItemResultDto<PaymentCardResponseDto>> changeStatusBatch(List<StatusChangeDto> statusChangeDtos);
+
+    List<CardRef> deactivateExpired(LocalDate today, int batchSize);
+
     // Entity queries
 
     PaymentCard findById(long id);
@@ -37,5 +51,9 @@ public interface PaymentCardService {
 
     List<PaymentCardResponseDto> findAllByUserId(long userId);
 
+    MultiGetResponseDto<UserCardsResponseDto> findAllByUserIds(List<Long> userIds);
+
+    Optional<LocalDate> findOldestExpiredActive(LocalDate today);
+
 
 }
@@ -1,18 +1,29 @@
 package com.innowise.userservice.service;
 
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.RedisBatchCache;
+import com.innowise.userservice.config.BatchProperties;
 import com.innowise.userservice.config.CardProperties;
 import com.innowise.userservice.dto.request.PaymentCardCreateDto;
 import com.innowise.userservice.dto.request.PaymentCardUpdateDto;
+import com.innowise.userservice.dto.request.StatusChangeDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
 import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserCardsResponseDto;
 import com.innowise.userservice.entity.PaymentCard;
 import com.innowise.userservice.entity.User;
 import com.innowise.userservice.exception.BadRequestException;
 import com.innowise.userservice.exception.PaymentCardAlreadyExistsException;
 import com.innowise.userservice.exception.PaymentCardLimitExceededException;
 import com.innowise.userservice.exception.PaymentCardNotFoundException;
+import com.innowise.userservice.exception.PreconditionFailedException;
+import com.innowise.userservice.exception.UserNotFoundException;
 import com.innowise.userservice.mapper.PaymentCardMapper;
 import com.innowise.userservice.repository.PaymentCardRepository;
+import com.innowise.userservice.repository.projection.CardRef;
 import com.innowise.userservice.specification.PaymentCardSpecification;
+import com.innowise.userservice.util.ETagHelper;
 import com.innowise.userservice.util.ValidationUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -22,11 +33,17 @@ import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.innowise.userservice.util.BatchResultHelper.failed;
+import static com.innowise.userservice.util.BatchResultHelper.succeeded;
 
 @Service
 @RequiredArgsConstructor
@@ -37,6 +54,9 @@ public class PaymentCardServiceImpl implements PaymentCardService {
     private final ValidationUtil validationUtil;
     private final UserService userService;
     private final CardProperties cardProperties;
+    private final RedisBatchCache batchCache;
+    private final BatchProperties batchProperties;
+    private final BatchCacheEvictor cacheEvictor;
 
     @Override
     @Transactional
@@ -44,7 +64,7 @@ public class PaymentCardServiceImpl implements PaymentCardService {
             @CachePut(value = "card", key = "#result.id")
     },
             evict = {
-                    @CacheEvict(value = "cards", key = "#paymentCardCreateDto.userId")
+                    @CacheEvict(value = {"cards", "cards-json", "user", "user-json"}, key = "#paymentCardCreateDto.userId")
             })
     public PaymentCardResponseDto create(PaymentCardCreateDto paymentCardCreateDto) {
         PaymentCard paymentCard = getValidatedCardForCreation(paymentCardCreateDto);
@@ -60,13 +80,14 @@ public class PaymentCardServiceImpl implements PaymentCardService {
             @CachePut(key = "#id", value = "card")
     },
             evict = {
-                    @CacheEvict(value = "cards", key = "#paymentCardUpdateDto.id")
+                    @CacheEvict(value = "card-json", key = "#id"),
+                    @CacheEvict(value = {"cards", "cards-json", "user", "user-json"}, key = "@paymentCardServiceImpl.findById(#id).user.id")
             })
-    public PaymentCardResponseDto update(long id, PaymentCardUpdateDto paymentCardUpdateDto) {
-        PaymentCard existingCard = getValidatedCardForUpdate(id, paymentCardUpdateDto);
+    public PaymentCardResponseDto update(long id, PaymentCardUpdateDto paymentCardUpdateDto, String ifMatch) {
+        PaymentCard existingCard = getValidatedCardForUpdate(id, paymentCardUpdateDto, ifMatch);
 
         mapper.updateEntityFromDto(paymentCardUpdateDto, existingCard);
-        PaymentCard updatedCard = paymentCardRepo.save(existingCard);
+        PaymentCard updatedCard = paymentCardRepo.saveAndFlush(existingCard);
 
         return mapper.toDto(updatedCard);
     }
@@ -74,8 +95,8 @@ public class PaymentCardServiceImpl implements PaymentCardService {
     @Override
     @Transactional
     @Caching(evict = {
-            @CacheEvict(value = "card", key = "#id", beforeInvocation = true),
-            @CacheEvict(value = "cards",
+            @CacheEvict(value = {"card", "card-json"}, key = "#id", beforeInvocation = true),
+            @CacheEvict(value = {"cards", "cards-json", "user", "user-json"},
                     key = "@paymentCardServiceImpl.findById(#id).user.id",
                     beforeInvocation = true)
     })
@@ -91,15 +112,136 @@ public class PaymentCardServiceImpl implements PaymentCardService {
             @CachePut(value = "card", key = "#id")
     },
             evict = {
-                    @CacheEvict(value = "cards", key = "@paymentCardServiceImpl.findById(#id).user.id")
+                    @CacheEvict(value = "card-json", key = "#id"),
+                    @CacheEvict(value = {"cards", "cards-json", "user", "user-json"}, key = "@paymentCardServiceImpl.findById(#id).user.id")
             })
     public PaymentCardResponseDto changeStatus(long id, boolean active) {
         PaymentCard card = getValidatedCardForChangingStatus(id, active);
 
-        card = paymentCardRepo.save(card);
+        card = paymentCardRepo.saveAndFlush(card);
         return mapper.toDto(card);
     }
 
+    @Override
+    @Transactional
+    public List<BatchItemResultDto<PaymentCardResponseDto>> createBatch(List<PaymentCardCreateDto> paymentCardCreateDtos) {
+        validationUtil.validateBatchSize(paymentCardCreateDtos, batchProperties.getMaxItems());
+
+        Set<String> takenNumbers = findTakenNumbers(paymentCardCreateDtos.stream()
+                .map(PaymentCardCreateDto::getNumber)
+                .toList());
+        List<Long> userIds = paymentCardCreateDtos.stream()
+                .map(PaymentCardCreateDto::getUserId)
+                .distinct()
+                .toList();
+        Map<Long, User> users = userService.findAllByIds(userIds);
+        Map<Long, Long> cardCounts = new HashMap<>();
+        paymentCardRepo.countByUserIdIn(userIds)
+                .forEach(count -> cardCounts.put(count.getUserId(), count.getCards()));
+
+        List<BatchItemResultDto<PaymentCardResponseDto>> results = new ArrayList<>(Collections.nCopies(paymentCardCreateDtos.size(), null));
+        Map<Integer, PaymentCard> created = new LinkedHashMap<>();
+
+        for (int i = 0; i < paymentCardCreateDtos.size(); i++) {
+            PaymentCardCreateDto dto = paymentCardCreateDtos.get(i);
+            User user = users.get(dto.getUserId());
+
+            if (takenNumbers.contains(dto.getNumber())) {
+                results.set(i, failed(i, HttpStatus.CONFLICT, new PaymentCardAlreadyExistsException("number", dto.getNumber())));
+            } else if (user == null) {
+                results.set(i, failed(i, HttpStatus.NOT_FOUND, new UserNotFoundException("id", String.valueOf(dto.getUserId()))));
+            } else if (cardCounts.getOrDefault(user.getId(), 0L) >= cardProperties.getMaxLimit()) {
+                results.set(i, failed(i, HttpStatus.CONFLICT, limitExceeded()));
+            } else {
+                takenNumbers.add(dto.getNumber());
+                cardCounts.merge(user.getId(), 1L, Long::sum);
+                created.put(i, prepareCard(dto, user));
+            }
+        }
+
+        paymentCardRepo.saveAll(created.values());
+        paymentCardRepo.flush();
+
+        return completeBatch(results, created, HttpStatus.CREATED);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResultDto<PaymentCardResponseDto>> updateBatch(List<PaymentCardUpdateDto> paymentCardUpdateDtos) {
+        validationUtil.validateBatchSize(paymentCardUpdateDtos, batchProperties.getMaxItems());
+
+        Map<Long, PaymentCard> cards = findAllByIds(paymentCardUpdateDtos.stream()
+                .map(PaymentCardUpdateDto::getId)
+                .toList());
+        Set<String> takenNumbers = findTakenNumbers(paymentCardUpdateDtos.stream()
+                .filter(dto -> isNumberChanged(cards.get(dto.getId()), dto.getNumber()))
+                .map(PaymentCardUpdateDto::getNumber)
+                .toList());
+        List<BatchItemResultDto<PaymentCardResponseDto>> results = new ArrayList<>(Collections.nCopies(paymentCardUpdateDtos.size(), null));
+        Map<Integer, PaymentCard> updated = new LinkedHashMap<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        for (int i = 0; i < paymentCardUpdateDtos.size(); i++) {
+            PaymentCardUpdateDto dto = paymentCardUpdateDtos.get(i);
+            PaymentCard card = cards.get(dto.getId());
+
+            if (!seenIds.add(dto.getId())) {
+                results.set(i, failed(i, HttpStatus.BAD_REQUEST, duplicateId(dto.getId())));
+            } else if (card == null) {
+                results.set(i, failed(i, HttpStatus.NOT_FOUND, new PaymentCardNotFoundException("id", String.valueOf(dto.getId()))));
+            } else if (isNumberChanged(card, dto.getNumber()) && !takenNumbers.add(dto.getNumber())) {
+                results.set(i, failed(i, HttpStatus.CONFLICT, new PaymentCardAlreadyExistsException("number", dto.getNumber())));
+            } else {
+                mapper.updateEntityFromDto(dto, card);
+                updated.put(i, card);
+            }
+        }
+
+        paymentCardRepo.flush();
+
+        return completeBatch(results, updated, HttpStatus.OK);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResultDto<PaymentCardResponseDto>> changeStatusBatch(List<StatusChangeDto> statusChangeDtos) {
+        validationUtil.validateBatchSize(statusChangeDtos, batchProperties.getMaxItems());
+
+        Map<Long, PaymentCard> cards = findAllByIds(statusChangeDtos.stream()
+                .map(StatusChangeDto::getId)
+                .toList());
+        List<BatchItemResultDto<PaymentCardResponseDto>> results = new ArrayList<>(Collections.nCopies(statusChangeDtos.size(), null));
+        Map<Integer, PaymentCard> changed = new LinkedHashMap<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        for (int i = 0; i < statusChangeDtos.size(); i++) {
+            long id = statusChangeDtos.get(i).getId();
+            boolean active = statusChangeDtos.get(i).getActive();
+            PaymentCard card = cards.get(id);
+
+            if (!seenIds.add(id)) {
+                results.set(i, failed(i, HttpStatus.BAD_REQUEST, duplicateId(id)));
+            } else if (card == null) {
+                results.set(i, failed(i, HttpStatus.NOT_FOUND, new PaymentCardNotFoundException("id", String.valueOf(id))));
+            } else if (active == card.getActive()) {
+                results.set(i, failed(i, HttpStatus.BAD_REQUEST, statusAlreadySet(id, active)));
+            } else {
+                card.setActive(active);
+                changed.put(i, card);
+            }
+        }
+
+        paymentCardRepo.flush();
+
+        return completeBatch(results, changed, HttpStatus.OK);
+    }
+
+    @Override
+    @Transactional
+    public List<CardRef> deactivateExpired(LocalDate today, int batchSize) {
+        return paymentCardRepo.deactivateExpiredBatch(today, batchSize);
+    }
+
     @Override
     public PaymentCard findById(long id) {
         return paymentCardRepo.findById(id).
@@ -134,9 +276,128 @@ public class PaymentCardServiceImpl implements PaymentCardService {
         return mapper.toDto(paymentCards);
     }
 
-    private Specification<PaymentCard> configureSpecification(Boolean active,
-                                                              LocalDate expiresAfter,
-                                                              LocalDate expiresBefore) {
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponseDto<UserCardsResponseDto> findAllByUserIds(List<Long> userIds) {
+        validationUtil.validateBatchSize(userIds, batchProperties.getMaxIds());
+
+        List<Long> distinctIds = userIds.stream().distinct().toList();
+        Map<Long, List<PaymentCardResponseDto>> found = new HashMap<>(batchCache.<List<PaymentCardResponseDto>>multiGet("cards", distinctIds));
+
+        List<Long> misses = distinctIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+
+        if (!misses.isEmpty()) {
+            found.putAll(loadCardsForUsers(misses));
+        }
+
+        return MultiGetResponseDto.<UserCardsResponseDto>builder()
+                .items(distinctIds.stream()
+                        .filter(found::containsKey)
+                        .map(id -> new UserCardsResponseDto(id, found.get(id)))
+                        .toList())
+                .missingIds(distinctIds.stream()
+                        .filter(id -> !found.containsKey(id))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findOldestExpiredActive(LocalDate today) {
+        return paymentCardRepo.findOldestExpiredActive(today);
+    }
+
+    private Map<Long, List<PaymentCardResponseDto>> loadCardsForUsers(List<Long> userIds) {
+        Map<Long, List<PaymentCardResponseDto>> loaded = new HashMap<>();
+
+        paymentCardRepo.findAllByUserIdIn(userIds)
+                .forEach(card -> loaded
+                        .computeIfAbsent(card.getUser().getId(), id -> new ArrayList<>())
+                        .add(mapper.toDto(card)));
+
+        List<Long> withoutCards = userIds.stream()
+                .filter(id -> !loaded.containsKey(id))
+                .toList();
+
+        if (!withoutCards.isEmpty()) {
+            userService.findExistingIds(withoutCards)
+                    .forEach(id -> loaded.put(id, new ArrayList<>()));
+        }
+
+        batchCache.multiPut("cards", loaded);
+
+        return loaded;
+    }
+
+    private Map<Long, PaymentCard> findAllByIds(Collection<Long> ids) {
+        return paymentCardRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(PaymentCard::getId, Function.identity()));
+    }
+
+    private Set<String> findTakenNumbers(Collection<String> numbers) {
+        if (numbers.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return new HashSet<>(paymentCardRepo.findNumbersIn(numbers));
+    }
+
+    private boolean isNumberChanged(PaymentCard card, String number) {
+        return card != null && number != null && !card.getNumber().equals(number);
+    }
+
+    private List<BatchItemResultDto<PaymentCardResponseDto>> completeBatch(List<BatchItemResultDto<PaymentCardResponseDto>> results,
+                                                                          Map<Integer, PaymentCard> written,
+                                                                          HttpStatus httpStatus) {
+        Map<Long, PaymentCardResponseDto> cacheEntries = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+
+        written.forEach((index, card) -> {
+            PaymentCardResponseDto dto = mapper.toDto(card);
+            results.set(index, succeeded(index, httpStatus, dto));
+            cacheEntries.put(dto.getId(), dto);
+            userIds.add(card.getUser().getId());
+        });
+
+        batchCache.multiPutAfterCommit("card", cacheEntries);
+        cacheEvictor.evictAfterCommit("card-json", cacheEntries.keySet());
+        cacheEvictor.evictAfterCommit("cards", userIds);
+        cacheEvictor.evictAfterCommit("cards-json", userIds);
+        cacheEvictor.evictAfterCommit("user", userIds);
+        cacheEvictor.evictAfterCommit("user-json", userIds);
+
+        return results;
+    }
+
+    private PaymentCard findForUpdateById(long id, String ifMatch) {
+        PaymentCard card = paymentCardRepo.findForUpdateById(id)
+                .orElseThrow(() -> new PaymentCardNotFoundException("id", String.valueOf(id)));
+
+        if (!ETagHelper.matches(ifMatch, ETagHelper.cardETag(mapper.toDto(card)))) {
+            throw new PreconditionFailedException("Card", id);
+        }
+
+        return card;
+    }
+
+    private BadRequestException duplicateId(long id) {
+        return new BadRequestException("Duplicate id=" + id + " in batch");
+    }
+
+    private BadRequestException statusAlreadySet(long id, boolean active) {
+        return new BadRequestException("Card with id=" + id + " have status=" + (active ? "active" : "inactive"));
+    }
+
+    private PaymentCardLimitExceededException limitExceeded() {
+        return new PaymentCardLimitExceededException("Maximum number of cards (" +
+                cardProperties.getMaxLimit() + ") exceeded");
+    }
+
+    static Specification<PaymentCard> configureSpecification(Boolean active,
+                                                             LocalDate expiresAfter,
+                                                             LocalDate expiresBefore) {
 
         Specification<PaymentCard> spec = Specification.unrestricted();
 
@@ -168,9 +429,8 @@ public class PaymentCardServiceImpl implements PaymentCardService {
 
         User user = userService.findById(paymentCardCreateDto.getUserId());
 
-        if (user.getPaymentCards().size() >= cardProperties.getMaxLimit()) {
-            throw new PaymentCardLimitExceededException("Maximum number of cards (" +
-                    cardProperties.getMaxLimit() + ") exceeded");
+        if (paymentCardRepo.countByUserId(user.getId()) >= cardProperties.getMaxLimit()) {
+            throw limitExceeded();
         }
 
         return prepareCard(paymentCardCreateDto, user);
@@ -184,10 +444,10 @@ public class PaymentCardServiceImpl implements PaymentCardService {
         return card;
     }
 
-    public PaymentCard getValidatedCardForUpdate(long id, PaymentCardUpdateDto dto) {
+    public PaymentCard getValidatedCardForUpdate(long id, PaymentCardUpdateDto dto, String ifMatch) {
         validationUtil.validateMatchingIds(id, dto.getId());
 
-        PaymentCard existingCard = findById(id);
+        PaymentCard existingCard = ifMatch == null ? findById(id) : findForUpdateById(id, ifMatch);
 
         if (!existingCard.getNumber().equals(dto.getNumber())) {
             checkCardNumberNotTaken(dto.getNumber());
@@ -200,7 +460,7 @@ public class PaymentCardServiceImpl implements PaymentCardService {
         PaymentCard card = findById(id);
 
         if (active == card.getActive()) {
-            throw new BadRequestException("Card with id=" + id + " have status=" + (active ? "active" : "inactive"));
+            throw statusAlreadySet(id, active);
         }
 
         card.setActive(active);
@@ -0,0 +1,31 @@
+package com.innowise.userservice.service;
+
+import com.innowise.userservice.dto.response.UserResponseDto;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserArchiveService {
+
+    // Commands
+
+    List<Long> archiveInactive(Instant inactiveBefore, int batchSize);
+
+    boolean restore(long id);
+
+    // DTO queries
+
+    Optional<UserResponseDto> findArchivedDtoById(long id);
+
+    List<UserResponseDto> findArchivedDtosByIds(Collection<Long> ids);
+
+    Optional<String> findArchivedEmailById(long id);
+
+    boolean isEmailArchived(String email);
+
+    List<String> findArchivedEmails(Collection<String> emails);
+
+    List<Long> findArchivedCardIds(Collection<Long> userIds);
+}
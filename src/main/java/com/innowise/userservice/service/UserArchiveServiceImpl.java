@@ -0,0 +1,74 @@
+package com.innowise.userservice.service;
+
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.entity.ArchivedUser;
+import com.innowise.userservice.mapper.ArchivedUserMapper;
+import com.innowise.userservice.repository.ArchivedUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class UserArchiveServiceImpl implements UserArchiveService {
+
+    private final ArchivedUserRepository archivedUserRepo;
+    private final ArchivedUserMapper mapper;
+
+    @Override
+    @Transactional
+    public List<Long> archiveInactive(Instant inactiveBefore, int batchSize) {
+        return archivedUserRepo.archiveInactiveBatch(inactiveBefore, batchSize);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = {"cards", "cards-json"}, key = "#id")
+    public boolean restore(long id) {
+        return archivedUserRepo.restoreById(id) > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserResponseDto> findArchivedDtoById(long id) {
+        return archivedUserRepo.findById(id)
+                .map(mapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> findArchivedDtosByIds(Collection<Long> ids) {
+        return archivedUserRepo.findAllWithCardsByIdIn(ids).stream()
+                .map(mapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findArchivedEmailById(long id) {
+        return archivedUserRepo.findById(id)
+                .map(ArchivedUser::getEmail);
+    }
+
+    @Override
+    public boolean isEmailArchived(String email) {
+        return archivedUserRepo.existsByEmail(email);
+    }
+
+    @Override
+    public List<String> findArchivedEmails(Collection<String> emails) {
+        return archivedUserRepo.findEmailsIn(emails);
+    }
+
+    @Override
+    public List<Long> findArchivedCardIds(Collection<Long> userIds) {
+        return archivedUserRepo.findCardIdsByUserIdIn(userIds);
+    }
+
+}
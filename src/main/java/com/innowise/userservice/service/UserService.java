@@ -1,13 +1,19 @@
 package com.innowise.userservice.service;
 
+import com.innowise.userservice.dto.request.StatusChangeDto;
 import com.innowise.userservice.dto.request.UserCreateDto;
 import com.innowise.userservice.dto.request.UserUpdateDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
 import com.innowise.userservice.dto.response.UserResponseDto;
 import com.innowise.userservice.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface UserService {
 
@@ -15,27 +21,52 @@ public interface UserService {
 
     UserResponseDto create(UserCreateDto userCreateDto);
 
-    UserResponseDto update(long id, UserUpdateDto userUpdateDto);
+    UserResponseDto update(long id, UserUpdateDto userUpdateDto, String ifMatch);
 
     void delete(long id);
 
     UserResponseDto changeStatus(long id, boolean status);
 
+    List<BatchItemResultDto<UserResponseDto>> createBatch(List<UserCreateDto> userCreateDtos);
+
+    List<BatchItemResultDto<UserResponseDto>> updateBatch(List<UserUpdateDto> userUpdateDtos);
+
+    List<BatchItemResultDto<UserResponseDto>> changeStatusBatch(List<StatusChangeDto> statusChangeDtos);
+
     // Entity queries
 
     User findById(long id);
 
     User findByEmail(String email);
 
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    Map<Long, User> findAllByIds(Collection<Long> ids);
+
+    Map<Long, User> findAllWithCardsByIds(Collection<Long> ids);
+
     // DTO queries
 
     UserResponseDto findDtoById(long id);
 
-    UserResponseDto findDtoByEmail(String email);
+    UserResponseDto findSlimDtoById(long id);
+
+    UserResponseDto findDtoByEmail(String email, boolean withCards);
+
+    MultiGetResponseDto<UserResponseDto> findDtosByIds(List<Long> ids, boolean withCards);
 
     Page<UserResponseDto> findAll(String name,
                                   String surname,
                                   LocalDate birthDate,
                                   Boolean active,
+                                  boolean withCards,
                                   Pageable pageable);
+
+    List<UserResponseDto> findAllAfterId(String name,
+                                         String surname,
+                                         LocalDate birthDate,
+                                         Boolean active,
+                                         boolean withCards,
+                                         long afterId,
+                                         int limit);
 }
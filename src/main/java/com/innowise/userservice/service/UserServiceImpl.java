@@ -1,15 +1,23 @@
 package com.innowise.userservice.service;
 
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.RedisBatchCache;
+import com.innowise.userservice.config.BatchProperties;
+import com.innowise.userservice.dto.request.StatusChangeDto;
 import com.innowise.userservice.dto.request.UserCreateDto;
 import com.innowise.userservice.dto.request.UserUpdateDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
 import com.innowise.userservice.dto.response.UserResponseDto;
 import com.innowise.userservice.entity.User;
 import com.innowise.userservice.exception.BadRequestException;
+import com.innowise.userservice.exception.PreconditionFailedException;
 import com.innowise.userservice.exception.UserAlreadyExistsException;
 import com.innowise.userservice.exception.UserNotFoundException;
 import com.innowise.userservice.mapper.UserMapper;
 import com.innowise.userservice.repository.UserRepository;
 import com.innowise.userservice.specification.UserSpecification;
+import com.innowise.userservice.util.ETagHelper;
 import com.innowise.userservice.util.ValidationUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -18,11 +26,19 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.innowise.userservice.util.BatchResultHelper.failed;
+import static com.innowise.userservice.util.BatchResultHelper.succeeded;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +47,10 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepo;
     private final UserMapper mapper;
     private final ValidationUtil validationUtil;
+    private final UserArchiveService userArchiveService;
+    private final RedisBatchCache batchCache;
+    private final BatchProperties batchProperties;
+    private final BatchCacheEvictor cacheEvictor;
 
     @Override
     @Transactional
@@ -46,12 +66,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    @CachePut(value = "user", key = "#result.id")
-    public UserResponseDto update(long id, UserUpdateDto userUpdateDto) {
-        User curUser = getValidatedUserForUpdate(id, userUpdateDto);
+    @Caching(
+            put = @CachePut(value = "user", key = "#result.id"),
+            evict = @CacheEvict(value = {"user-slim", "user-json", "user-slim-json"}, key = "#id"))
+    public UserResponseDto update(long id, UserUpdateDto userUpdateDto, String ifMatch) {
+        User curUser = getValidatedUserForUpdate(id, userUpdateDto, ifMatch);
         mapper.updateEntityFromDto(userUpdateDto, curUser);
 
-        return mapper.toDto(userRepo.save(curUser));
+        return mapper.toDto(userRepo.saveAndFlush(curUser));
     }
 
     @Override
@@ -59,7 +81,9 @@ public class UserServiceImpl implements UserService {
     @Caching(
             evict = {
                     @CacheEvict(value = "user", key = "#id", beforeInvocation = true),
-                    @CacheEvict(value = "cards", key = "#id")
+                    @CacheEvict(value = "user-slim", key = "#id", beforeInvocation = true),
+                    @CacheEvict(value = {"user-json", "user-slim-json"}, key = "#id", beforeInvocation = true),
+                    @CacheEvict(value = {"cards", "cards-json"}, key = "#id")
             })
     public void delete(long id) {
         findById(id);
@@ -69,15 +93,122 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    @CachePut(value = "user", key = "#result.id")
+    @Caching(
+            put = @CachePut(value = "user", key = "#result.id"),
+            evict = @CacheEvict(value = {"user-slim", "user-json", "user-slim-json"}, key = "#id"))
     public UserResponseDto changeStatus(long id, boolean status) {
         User curUser = getValidatedUserForChangingStatus(id, status);
 
-        curUser = userRepo.save(curUser);
+        curUser = userRepo.saveAndFlush(curUser);
 
         return mapper.toDto(curUser);
     }
 
+    @Override
+    @Transactional
+    public List<BatchItemResultDto<UserResponseDto>> createBatch(List<UserCreateDto> userCreateDtos) {
+        validationUtil.validateBatchSize(userCreateDtos, batchProperties.getMaxItems());
+
+        Set<String> takenEmails = findTakenEmails(userCreateDtos.stream()
+                .map(UserCreateDto::getEmail)
+                .toList());
+        List<BatchItemResultDto<UserResponseDto>> results = new ArrayList<>(Collections.nCopies(userCreateDtos.size(), null));
+        Map<Integer, User> created = new LinkedHashMap<>();
+
+        for (int i = 0; i < userCreateDtos.size(); i++) {
+            String email = userCreateDtos.get(i).getEmail();
+
+            if (!takenEmails.add(email)) {
+                results.set(i, failed(i, HttpStatus.CONFLICT, new UserAlreadyExistsException("email", email)));
+                continue;
+            }
+
+            created.put(i, mapper.toEntity(userCreateDtos.get(i)));
+        }
+
+        userRepo.saveAll(created.values());
+        userRepo.flush();
+
+        return completeBatch(results, created, HttpStatus.CREATED);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResultDto<UserResponseDto>> updateBatch(List<UserUpdateDto> userUpdateDtos) {
+        validationUtil.validateBatchSize(userUpdateDtos, batchProperties.getMaxItems());
+
+        Map<Long, User> users = findAllWithCardsByIds(userUpdateDtos.stream()
+                .map(UserUpdateDto::getId)
+                .toList());
+        Set<String> takenEmails = findTakenEmails(userUpdateDtos.stream()
+                .filter(dto -> isEmailChanged(users.get(dto.getId()), dto.getEmail()))
+                .map(UserUpdateDto::getEmail)
+                .toList());
+        List<BatchItemResultDto<UserResponseDto>> results = new ArrayList<>(Collections.nCopies(userUpdateDtos.size(), null));
+        Map<Integer, User> updated = new LinkedHashMap<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        for (int i = 0; i < userUpdateDtos.size(); i++) {
+            UserUpdateDto dto = userUpdateDtos.get(i);
+            User user = users.get(dto.getId());
+
+            if (!seenIds.add(dto.getId())) {
+                results.set(i, failed(i, HttpStatus.BAD_REQUEST, duplicateId(dto.getId())));
+            } else if (user == null) {
+                results.set(i, failed(i, HttpStatus.NOT_FOUND, new UserNotFoundException("id", String.valueOf(dto.getId()))));
+            } else if (isEmailChanged(user, dto.getEmail()) && !takenEmails.add(dto.getEmail())) {
+                results.set(i, failed(i, HttpStatus.CONFLICT, new UserAlreadyExistsException("email", dto.getEmail())));
+            } else {
+                mapper.updateEntityFromDto(dto, user);
+                updated.put(i, user);
+            }
+        }
+
+        userRepo.flush();
+
+        return completeBatch(results, updated, HttpStatus.OK);
+    }
+
+    @Override
+    @Transactional
+    public List<BatchItemResultDto<UserResponseDto>> changeStatusBatch(List<StatusChangeDto> statusChangeDtos) {
+        validationUtil.validateBatchSize(statusChangeDtos, batchProperties.getMaxItems());
+
+        Map<Long, User> users = findAllWithCardsByIds(statusChangeDtos.stream()
+                .map(StatusChangeDto::getId)
+                .toList());
+        List<BatchItemResultDto<UserResponseDto>> results = new ArrayList<>(Collections.nCopies(statusChangeDtos.size(), null));
+        Map<Integer, User> changed = new LinkedHashMap<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        for (int i = 0; i < statusChangeDtos.size(); i++) {
+            long id = statusChangeDtos.get(i).getId();
+            boolean active = statusChangeDtos.get(i).getActive();
+
+            if (!seenIds.add(id)) {
+                results.set(i, failed(i, HttpStatus.BAD_REQUEST, duplicateId(id)));
+                continue;
+            }
+
+            User user = Optional.ofNullable(users.get(id))
+                    .or(() -> active && restoreArchived(id) ? userRepo.findById(id) : Optional.empty())
+                    .orElse(null);
+
+            if (user == null) {
+                results.set(i, failed(i, HttpStatus.NOT_FOUND, new UserNotFoundException("id", String.valueOf(id))));
+            } else if (active == user.getActive()) {
+                results.set(i, failed(i, HttpStatus.BAD_REQUEST, statusAlreadySet(id, active)));
+            } else {
+                user.setActive(active);
+                changed.put(i, user);
+            }
+        }
+
+        userRepo.flush();
+
+        return completeBatch(results, changed, HttpStatus.OK);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public User findById(long id) {
@@ -91,16 +222,97 @@ public class UserServiceImpl implements UserService {
                 orElseThrow(() -> new UserNotFoundException("email", email));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return userRepo.findExistingIds(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, User> findAllByIds(Collection<Long> ids) {
+        return userRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, User> findAllWithCardsByIds(Collection<Long> ids) {
+        return userRepo.findAllWithCardsByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     @Cacheable(value = "user", key = "#id")
     public UserResponseDto findDtoById(long id) {
-        return mapper.toDto(findById(id));
+        return userRepo.findById(id)
+                .map(mapper::toDto)
+                .or(() -> userArchiveService.findArchivedDtoById(id))
+                .orElseThrow(() -> new UserNotFoundException("id", String.valueOf(id)));
     }
 
     @Override
-    public UserResponseDto findDtoByEmail(String email) {
-        return mapper.toDto(findByEmail(email));
+    @Transactional(readOnly = true)
+    @Cacheable(value = "user-slim", key = "#id")
+    public UserResponseDto findSlimDtoById(long id) {
+        return userRepo.findById(id)
+                .map(mapper::toSlimDto)
+                .or(() -> userArchiveService.findArchivedDtoById(id).map(this::withoutCards))
+                .orElseThrow(() -> new UserNotFoundException("id", String.valueOf(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserResponseDto findDtoByEmail(String email, boolean withCards) {
+        User user = findByEmail(email);
+
+        return withCards ? mapper.toDto(user) : mapper.toSlimDto(user);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetResponseDto<UserResponseDto> findDtosByIds(List<Long> ids, boolean withCards) {
+        validationUtil.validateBatchSize(ids, batchProperties.getMaxIds());
+
+        String cacheName = withCards ? "user" : "user-slim";
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<Long, UserResponseDto> found = new HashMap<>(batchCache.<UserResponseDto>multiGet(cacheName, distinctIds));
+
+        List<Long> misses = distinctIds.stream()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+
+        if (!misses.isEmpty()) {
+            List<User> users = withCards ? userRepo.findAllWithCardsByIdIn(misses) : userRepo.findAllById(misses);
+            Function<User, UserResponseDto> toDto = withCards ? mapper::toDto : mapper::toSlimDto;
+            Map<Long, UserResponseDto> loaded = users.stream()
+                    .map(toDto)
+                    .collect(Collectors.toMap(UserResponseDto::getId, Function.identity(), (a, b) -> a, HashMap::new));
+
+            List<Long> archivedMisses = misses.stream()
+                    .filter(id -> !loaded.containsKey(id))
+                    .toList();
+
+            if (!archivedMisses.isEmpty()) {
+                Function<UserResponseDto, UserResponseDto> toArchivedDto = withCards ? Function.identity() : this::withoutCards;
+                userArchiveService.findArchivedDtosByIds(archivedMisses)
+                        .forEach(dto -> loaded.put(dto.getId(), toArchivedDto.apply(dto)));
+            }
+
+            batchCache.multiPut(cacheName, loaded);
+            found.putAll(loaded);
+        }
+
+        return MultiGetResponseDto.<UserResponseDto>builder()
+                .items(distinctIds.stream()
+                        .filter(found::containsKey)
+                        .map(found::get)
+                        .toList())
+                .missingIds(distinctIds.stream()
+                        .filter(id -> !found.containsKey(id))
+                        .toList())
+                .build();
     }
 
     @Override
@@ -108,18 +320,38 @@ public class UserServiceImpl implements UserService {
                                          String surname,
                                          LocalDate birthDate,
                                          Boolean active,
+                                         boolean withCards,
                                          Pageable pageable) {
         Specification<User> spec = configureSpecification(name, surname, birthDate, active);
 
         Page<User> users = userRepo.findAll(spec, pageable);
 
-        return mapper.toDto(users);
+        return withCards ? mapper.toDto(users) : mapper.toSlimDto(users);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> findAllAfterId(String name,
+                                                String surname,
+                                                LocalDate birthDate,
+                                                Boolean active,
+                                                boolean withCards,
+                                                long afterId,
+                                                int limit) {
+        Specification<User> spec = configureSpecification(name, surname, birthDate, active)
+                .and(UserSpecification.idGreaterThan(afterId));
+
+        List<User> users = userRepo.findBy(spec, query -> query.sortBy(Sort.by("id")).limit(limit).all());
+
+        return users.stream()
+                .map(user -> withCards ? mapper.toDto(user) : mapper.toSlimDto(user))
+                .toList();
     }
 
-    private Specification<User> configureSpecification(String name,
-                                                       String surname,
-                                                       LocalDate birthDate,
-                                                       Boolean active) {
+    static Specification<User> configureSpecification(String name,
+                                                      String surname,
+                                                      LocalDate birthDate,
+                                                      Boolean active) {
         Specification<User> spec = Specification.unrestricted();
 
         if (name != null) {
@@ -143,17 +375,98 @@ public class UserServiceImpl implements UserService {
     }
 
     private void checkEmailNotTaken(String email) {
+        checkEmailNotInUse(email);
+
+        if (userArchiveService.isEmailArchived(email)) {
+            throw new UserAlreadyExistsException("email", email);
+        }
+    }
+
+    private void checkEmailNotInUse(String email) {
         userRepo.findByEmail(email)
                 .ifPresent(u -> {
                     throw new UserAlreadyExistsException("email", email);
                 });
     }
 
+    private boolean restoreArchived(long id) {
+        Optional<String> email = userArchiveService.findArchivedEmailById(id);
+
+        if (email.isEmpty()) {
+            return false;
+        }
+
+        checkEmailNotInUse(email.get());
+
+        return userArchiveService.restore(id);
+    }
+
+    private Set<String> findTakenEmails(Collection<String> emails) {
+        Set<String> taken = new HashSet<>();
+
+        if (emails.isEmpty()) {
+            return taken;
+        }
+
+        taken.addAll(userRepo.findEmailsIn(emails));
+        taken.addAll(userArchiveService.findArchivedEmails(emails));
+
+        return taken;
+    }
+
+    private boolean isEmailChanged(User user, String email) {
+        return user != null && email != null && !user.getEmail().equals(email);
+    }
+
+    private List<BatchItemResultDto<UserResponseDto>> completeBatch(List<BatchItemResultDto<UserResponseDto>> results,
+                                                                   Map<Integer, User> written,
+                                                                   HttpStatus httpStatus) {
+        Map<Long, UserResponseDto> cacheEntries = new HashMap<>();
+
+        written.forEach((index, user) -> {
+            UserResponseDto dto = mapper.toDto(user);
+            results.set(index, succeeded(index, httpStatus, dto));
+            cacheEntries.put(dto.getId(), dto);
+        });
+
+        batchCache.multiPutAfterCommit("user", cacheEntries);
+        cacheEvictor.evictAfterCommit("user-slim", cacheEntries.keySet());
+        cacheEvictor.evictAfterCommit("user-json", cacheEntries.keySet());
+        cacheEvictor.evictAfterCommit("user-slim-json", cacheEntries.keySet());
+
+        return results;
+    }
+
+    private UserResponseDto withoutCards(UserResponseDto dto) {
+        return dto.toBuilder()
+                .paymentCards(null)
+                .build();
+    }
+
+    private User findForUpdateById(long id, String ifMatch) {
+        User user = userRepo.findForUpdateById(id)
+                .orElseThrow(() -> new UserNotFoundException("id", String.valueOf(id)));
+
+        if (!ETagHelper.matchesUser(ifMatch, mapper.toDto(user))) {
+            throw new PreconditionFailedException("User", id);
+        }
+
+        return user;
+    }
+
+    private BadRequestException duplicateId(long id) {
+        return new BadRequestException("Duplicate id=" + id + " in batch");
+    }
+
+    private BadRequestException statusAlreadySet(long id, boolean active) {
+        return new BadRequestException("User with id=" + id + " have status=" + (active ? "active" : "inactive"));
+    }
+
     @Transactional(readOnly = true)
-    public User getValidatedUserForUpdate(long id, UserUpdateDto userUpdateDto) {
+    public User getValidatedUserForUpdate(long id, UserUpdateDto userUpdateDto, String ifMatch) {
         validationUtil.validateMatchingIds(id, userUpdateDto.getId());
 
-        User curUser = findById(id);
+        User curUser = ifMatch == null ? findById(id) : findForUpdateById(id, ifMatch);
 
         if (!curUser.getEmail().equals(userUpdateDto.getEmail())) {
             checkEmailNotTaken(userUpdateDto.getEmail());
@@ -164,10 +477,12 @@ public class UserServiceImpl implements UserService {
 
     @Transactional(readOnly = true)
     public User getValidatedUserForChangingStatus(long id, boolean active) {
-        User user = findById(id);
+        User user = userRepo.findById(id)
+                .or(() -> active && restoreArchived(id) ? userRepo.findById(id) : Optional.empty())
+                .orElseThrow(() -> new UserNotFoundException("id", String.valueOf(id)));
 
         if (active == user.getActive()) {
-            throw new BadRequestException("User with id=" + id + " have status=" + (active ? "active" : "inactive"));
+            throw statusAlreadySet(id, active);
         }
 
         user.setActive(active);
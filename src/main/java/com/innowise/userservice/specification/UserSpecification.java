@@ -26,4 +26,9 @@ public class UserSpecification {
         return (root, query, cb) ->
                 cb.equal(root.get("active"), active);
     }
+
+    public static Specification<User> idGreaterThan(long id) {
+        return (root, query, cb) ->
+                cb.greaterThan(root.get("id"), id);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.innowise.userservice.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BufferedWriter writer;
+
+    public FileSpanExporter(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                writer.write(objectMapper.writeValueAsString(toMap(span)));
+                writer.newLine();
+            }
+
+            writer.flush();
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Failed to write {} spans", spans.size(), e);
+
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            writer.flush();
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private static Map<String, Object> toMap(SpanData span) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanId());
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochNanos", span.getStartEpochNanos());
+        json.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000);
+        json.put("status", span.getStatus().getStatusCode().name());
+        json.put("attributes", attributes);
+
+        return json;
+    }
+}
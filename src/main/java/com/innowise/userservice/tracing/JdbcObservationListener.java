@@ -0,0 +1,61 @@
+package com.innowise.userservice.tracing;
+
+import com.innowise.userservice.util.SqlStatementHelper;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+public class JdbcObservationListener implements QueryExecutionListener {
+
+    private static final String OBSERVATION_KEY = JdbcObservationListener.class.getName();
+
+    private final Supplier<ObservationRegistry> observationRegistry;
+    private final int maxStatementLength;
+
+    public JdbcObservationListener(Supplier<ObservationRegistry> observationRegistry, int maxStatementLength) {
+        this.observationRegistry = observationRegistry;
+        this.maxStatementLength = maxStatementLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        ObservationRegistry registry = observationRegistry.get();
+
+        if (registry.isNoop() || registry.getCurrentObservation() == null) {
+            return;
+        }
+
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+        String operation = SqlStatementHelper.operation(sql);
+
+        Observation observation = Observation.createNotStarted("app.jdbc", registry)
+                .contextualName("jdbc " + operation.toLowerCase(Locale.ROOT))
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("batch", String.valueOf(execInfo.isBatch()))
+                .highCardinalityKeyValue("db.statement", SqlStatementHelper.truncate(sql, maxStatementLength))
+                .start();
+
+        execInfo.addCustomValue(OBSERVATION_KEY, observation);
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Observation observation = execInfo.getCustomValue(OBSERVATION_KEY, Observation.class);
+
+        if (observation == null) {
+            return;
+        }
+
+        if (execInfo.getThrowable() != null) {
+            observation.error(execInfo.getThrowable());
+        }
+
+        observation.stop();
+    }
+}
@@ -0,0 +1,61 @@
+package com.innowise.userservice.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "monitoring.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LayerObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(public * com.innowise.userservice.service.UserService+.*(..)) "
+            + "|| execution(public * com.innowise.userservice.service.PaymentCardService+.*(..))")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.service", joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..)) "
+            + "&& !execution(public org.reactivestreams.Publisher+ *(..))")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.repository", repositoryName(joinPoint), joinPoint);
+    }
+
+    @Around("execution(public * com.innowise.userservice.mapper.*Mapper+.*(..))")
+    public Object observeMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("app.mapping", joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    private Object observe(String name, String component, ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(component + "#" + method)
+                .lowCardinalityKeyValue("class", component)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(joinPoint::proceed);
+    }
+
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        return Arrays.stream(AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis()))
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+}
@@ -0,0 +1,23 @@
+package com.innowise.userservice.util;
+
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import org.springframework.http.HttpStatus;
+
+public class BatchResultHelper {
+    public static <T> BatchItemResultDto<T> succeeded(int index, HttpStatus httpStatus, T item) {
+        return BatchItemResultDto.<T>builder()
+                .index(index)
+                .status(httpStatus.value())
+                .item(item)
+                .build();
+    }
+
+    public static <T> BatchItemResultDto<T> failed(int index, HttpStatus httpStatus, Exception e) {
+        return BatchItemResultDto.<T>builder()
+                .index(index)
+                .status(httpStatus.value())
+                .error(httpStatus.getReasonPhrase())
+                .message(e.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.innowise.userservice.util;
+
+import com.innowise.userservice.config.ClientIdentityProperties;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public class ClientIdentityHelper {
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(?:\\.\\d{1,3}){3}");
+    private static final Pattern IPV6 = Pattern.compile("[0-9A-Fa-f:.]*:[0-9A-Fa-f:.]*");
+
+    public static String clientId(HttpServletRequest request, ClientIdentityProperties properties) {
+        return trustedClientId(request, properties)
+                .orElseGet(() -> "addr:" + clientAddress(request, properties));
+    }
+
+    public static Optional<String> trustedClientId(HttpServletRequest request, ClientIdentityProperties properties) {
+        return trustedClient(request, properties).map(client -> "client:" + client);
+    }
+
+    public static Optional<String> trustedClient(HttpServletRequest request, ClientIdentityProperties properties) {
+        String header = properties.getHeader();
+
+        if (header == null || header.isBlank() || !isTrusted(request.getRemoteAddr(), properties.getTrustedProxies())) {
+            return Optional.empty();
+        }
+
+        String client = request.getHeader(header);
+
+        return client == null || client.isBlank() ? Optional.empty() : Optional.of(client.strip());
+    }
+
+    public static String clientAddress(HttpServletRequest request, ClientIdentityProperties properties) {
+        String remoteAddr = request.getRemoteAddr();
+        List<String> trustedProxies = properties.getTrustedProxies();
+
+        if (!isTrusted(remoteAddr, trustedProxies)) {
+            return remoteAddr;
+        }
+
+        List<String> hops = new ArrayList<>();
+
+        for (String value : Collections.list(request.getHeaders(properties.getForwardedForHeader()))) {
+            for (String hop : value.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.strip());
+                }
+            }
+        }
+
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            if (!isTrusted(hops.get(i), trustedProxies)) {
+                return hops.get(i);
+            }
+        }
+
+        return hops.isEmpty() ? remoteAddr : hops.getFirst();
+    }
+
+    private static boolean isTrusted(String address, List<String> trustedProxies) {
+        byte[] candidate = toBytes(address);
+
+        if (candidate == null) {
+            return false;
+        }
+
+        for (String proxy : trustedProxies) {
+            int slash = proxy.indexOf('/');
+            byte[] network = toBytes(slash < 0 ? proxy : proxy.substring(0, slash));
+
+            if (network == null || network.length != candidate.length) {
+                continue;
+            }
+
+            int prefix = slash < 0 ? network.length * 8 : Integer.parseInt(proxy.substring(slash + 1).strip());
+
+            if (matches(candidate, network, prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean matches(byte[] candidate, byte[] network, int prefix) {
+        for (int bit = 0; bit < prefix; bit++) {
+            int mask = 0x80 >>> (bit % 8);
+
+            if ((candidate[bit / 8] & mask) != (network[bit / 8] & mask)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static byte[] toBytes(String address) {
+        String literal = address == null ? "" : address.strip();
+
+        if (!IPV4.matcher(literal).matches() && !IPV6.matcher(literal).matches()) {
+            return null;
+        }
+
+        try {
+            return InetAddress.getByName(literal).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
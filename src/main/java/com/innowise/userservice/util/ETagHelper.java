@@ -0,0 +1,86 @@
+package com.innowise.userservice.util;
+
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class ETagHelper {
+    public static String userETag(UserResponseDto user) {
+        StringBuilder version = userVersion(user);
+
+        appendCards(version, user.getPaymentCards());
+
+        return strongETag(version);
+    }
+
+    public static String userETag(UserResponseDto user, Set<String> selectedFields) {
+        if (selectedFields == null) {
+            return userETag(user);
+        }
+
+        StringBuilder version = userVersion(user);
+
+        appendCards(version, user.getPaymentCards());
+        version.append("|fields:").append(String.join(",", new TreeSet<>(selectedFields)));
+
+        return strongETag(version);
+    }
+
+    public static boolean matchesUser(String ifMatch, UserResponseDto user) {
+        return matches(ifMatch, userETag(user)) || matches(ifMatch, strongETag(userVersion(user)));
+    }
+
+    public static String cardETag(PaymentCardResponseDto card) {
+        StringBuilder version = new StringBuilder("card");
+
+        appendCards(version, List.of(card));
+
+        return strongETag(version);
+    }
+
+    public static String cardsETag(long userId, List<PaymentCardResponseDto> cards) {
+        StringBuilder version = new StringBuilder("cards:").append(userId);
+
+        appendCards(version, cards);
+
+        return strongETag(version);
+    }
+
+    public static boolean matches(String ifMatch, String eTag) {
+        return Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(eTag));
+    }
+
+    private static StringBuilder userVersion(UserResponseDto user) {
+        return new StringBuilder("user:")
+                .append(user.getId()).append(':')
+                .append(epochMilli(user.getUpdatedAt())).append(':')
+                .append(user.isArchived());
+    }
+
+    private static void appendCards(StringBuilder version, List<PaymentCardResponseDto> cards) {
+        if (cards == null) {
+            return;
+        }
+
+        cards.forEach(card -> version.append('|')
+                .append(card.getId()).append(':')
+                .append(epochMilli(card.getUpdatedAt())));
+    }
+
+    private static long epochMilli(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : 0;
+    }
+
+    private static String strongETag(CharSequence version) {
+        return "\"" + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
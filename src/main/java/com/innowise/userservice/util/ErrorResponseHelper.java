@@ -15,12 +15,18 @@ public class ErrorResponseHelper {
     public static ErrorResponse buildErrorResponse(Exception e,
                                                    HttpStatus httpStatus,
                                                    HttpServletRequest request) {
+        return buildErrorResponse(e, httpStatus, request.getRequestURI());
+    }
+
+    public static ErrorResponse buildErrorResponse(Exception e,
+                                                   HttpStatus httpStatus,
+                                                   String path) {
         return ErrorResponse.builder()
                 .timestamp(Instant.now())
                 .status(httpStatus.value())
                 .error(httpStatus.getReasonPhrase())
                 .message(e.getMessage())
-                .path(request.getRequestURI())
+                .path(path)
                 .build();
     }
 
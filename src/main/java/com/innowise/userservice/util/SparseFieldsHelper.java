@@ -0,0 +1,64 @@
+package com.innowise.userservice.util;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+public class SparseFieldsHelper {
+    public static final String USER_FIELDS_FILTER = "userFields";
+
+    private static final String ID_FIELD = "id";
+    private static final String CARDS_FIELD = "paymentCards";
+    private static final String CARDS = "cards";
+
+    public static boolean includesCards(Set<String> fields, Set<String> include, Set<String> exclude) {
+        if (exclude != null && exclude.contains(CARDS)) {
+            return false;
+        }
+
+        return fields == null || fields.isEmpty() || requestsCards(fields, include);
+    }
+
+    public static MappingJacksonValue select(Object body, Set<String> fields, Set<String> include) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        Set<String> selected = selectedFields(fields, include);
+
+        if (selected == null) {
+            return value;
+        }
+
+        value.setFilters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(USER_FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+
+        return value;
+    }
+
+    public static Set<String> selectedFields(Set<String> fields, Set<String> include) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+
+        Set<String> selected = new TreeSet<>(fields);
+        selected.add(ID_FIELD);
+
+        if (requestsCards(fields, include)) {
+            selected.add(CARDS_FIELD);
+        }
+
+        return selected;
+    }
+
+    public static FilterProvider defaultFilters() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    private static boolean requestsCards(Set<String> fields, Set<String> include) {
+        return (include != null && include.contains(CARDS))
+                || (fields != null && fields.contains(CARDS_FIELD));
+    }
+}
@@ -0,0 +1,73 @@
+package com.innowise.userservice.util;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SqlStatementHelper {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w$.])\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLAN_CONDITION =
+            Pattern.compile("(?m)^(.*?(?:Cond|(?<!Removed by )Filter): )(.*)$");
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+
+        return PARAMETER_LIST.matcher(normalized).replaceAll("(?, ...)");
+    }
+
+    public static String positional(String sql) {
+        StringBuilder positional = new StringBuilder(sql.length() + 16);
+        char quote = 0;
+        int parameter = 0;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '?') {
+                positional.append('$').append(++parameter);
+                continue;
+            }
+
+            positional.append(c);
+        }
+
+        return positional.toString();
+    }
+
+    public static String redactPlan(String plan) {
+        String redacted = STRING_LITERAL.matcher(plan).replaceAll("'?'");
+
+        return PLAN_CONDITION.matcher(redacted).replaceAll(match -> Matcher.quoteReplacement(
+                match.group(1) + NUMERIC_LITERAL.matcher(match.group(2)).replaceAll("?")));
+    }
+
+    public static String operation(String sql) {
+        String trimmed = sql == null ? "" : sql.stripLeading();
+        int end = 0;
+
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+
+        return end == 0 ? "OTHER" : trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+    }
+
+    public static String truncate(String sql, int maxLength) {
+        return sql.length() > maxLength ? sql.substring(0, maxLength) : sql;
+    }
+}
@@ -1,8 +1,11 @@
 package com.innowise.userservice.util;
 
+import com.innowise.userservice.exception.BadRequestException;
 import jakarta.validation.ValidationException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 @Component
 public class ValidationUtil {
     public void validateMatchingIds(long pathId, long dtoId) {
@@ -10,4 +13,14 @@ public class ValidationUtil {
             throw new ValidationException("pathId and dtoId must match");
         }
     }
+
+    public void validateBatchSize(Collection<?> items, int maxSize) {
+        if (items.isEmpty()) {
+            throw new BadRequestException("Batch must not be empty");
+        }
+
+        if (items.size() > maxSize) {
+            throw new BadRequestException("Batch size must not exceed " + maxSize + " items");
+        }
+    }
 }
@@ -0,0 +1,247 @@
+package com.innowise.userservice.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.config.WarmUpProperties;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import com.innowise.userservice.exception.PaymentCardNotFoundException;
+import com.innowise.userservice.exception.UserNotFoundException;
+import com.innowise.userservice.mapper.PaymentCardMapper;
+import com.innowise.userservice.mapper.UserMapper;
+import com.innowise.userservice.repository.PaymentCardRepository;
+import com.innowise.userservice.repository.UserRepository;
+import com.innowise.userservice.service.PaymentCardService;
+import com.innowise.userservice.service.UserService;
+import com.innowise.userservice.util.ETagHelper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner {
+
+    private static final long MISSING_ID = -1L;
+
+    private final WarmUpProperties properties;
+    private final DataSource dataSource;
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepo;
+    private final PaymentCardRepository paymentCardRepo;
+    private final UserService userService;
+    private final PaymentCardService paymentCardService;
+    private final UserMapper userMapper;
+    private final PaymentCardMapper paymentCardMapper;
+    private final ObjectMapper objectMapper;
+    private final GenericJackson2JsonRedisSerializer cacheValueSerializer;
+    private final MeterRegistry meterRegistry;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        AvailabilityChangeEvent.publish(event.getApplicationContext(), ReadinessState.REFUSING_TRAFFIC);
+
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        Map<String, String> report = new LinkedHashMap<>();
+
+        step("connection-pool", deadline, report, () -> fillConnectionPool(deadline));
+        step("redis", deadline, report, () -> redisTemplate.execute(connection -> connection.ping(), true));
+        step("repositories", deadline, report, () -> repeat(deadline, this::callRepositories));
+        step("services", deadline, report, () -> {
+            List<Long> sampleIds = sampleUserIds();
+            repeat(deadline, () -> callServices(sampleIds));
+        });
+        step("mapping", deadline, report, () -> repeat(deadline, this::mapAndSerialize));
+
+        log.info("Warm-up finished: {}", report);
+    }
+
+    private void step(String name, long deadline, Map<String, String> report, Runnable action) {
+        if (System.nanoTime() >= deadline) {
+            record(name, "skipped", 0);
+            report.put(name, "skipped");
+            return;
+        }
+
+        long start = System.nanoTime();
+        String outcome = "completed";
+
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            log.warn("Warm-up step {} failed", name, e);
+        }
+
+        long elapsed = System.nanoTime() - start;
+
+        if (outcome.equals("completed") && System.nanoTime() >= deadline) {
+            outcome = "timed-out";
+        }
+
+        record(name, outcome, elapsed);
+        report.put(name, outcome + " in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms");
+    }
+
+    private void record(String name, String outcome, long elapsedNanos) {
+        Timer.builder("app.warmup")
+                .description("Time spent in each warm-up step before readiness")
+                .tag("step", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void repeat(long deadline, Runnable action) {
+        for (int i = 0; i < properties.getIterations() && System.nanoTime() < deadline; i++) {
+            action.run();
+        }
+    }
+
+    private void fillConnectionPool(long deadline) {
+        int size = properties.getConnections();
+        List<Connection> connections = new ArrayList<>();
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                size = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+
+            for (int i = 0; i < size && System.nanoTime() < deadline; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(remainingSeconds(deadline));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            connections.forEach(this::closeQuietly);
+        }
+    }
+
+    private static int remainingSeconds(long deadline) {
+        return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(deadline - System.nanoTime()));
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close warm-up connection", e);
+        }
+    }
+
+    private void callRepositories() {
+        List<Long> ids = List.of(MISSING_ID, MISSING_ID - 1);
+
+        userRepo.findById(MISSING_ID);
+        userRepo.findByEmail("warmup@warmup.local");
+        userRepo.findAllWithCardsByIdIn(ids);
+        userRepo.findExistingIds(ids);
+        userRepo.findEmailsIn(List.of("warmup@warmup.local"));
+        paymentCardRepo.findById(MISSING_ID);
+        paymentCardRepo.findAllByUserId(MISSING_ID);
+        paymentCardRepo.findAllByUserIdIn(ids);
+        paymentCardRepo.findNumbersIn(List.of("000000000000"));
+    }
+
+    private List<Long> sampleUserIds() {
+        return userRepo.findAll(PageRequest.of(0, 2)).map(User::getId).getContent();
+    }
+
+    private void callServices(List<Long> sampleIds) {
+        userService.findAll("warmup", null, null, true, false, PageRequest.of(0, 20));
+        paymentCardService.findAll(true, null, null, PageRequest.of(0, 20));
+        expectMissing(() -> userService.findSlimDtoById(MISSING_ID));
+        expectMissing(() -> userService.findDtoByEmail("warmup@warmup.local", true));
+        expectMissing(() -> paymentCardService.findDtoById(MISSING_ID));
+
+        if (sampleIds.isEmpty()) {
+            return;
+        }
+
+        userService.findDtosByIds(sampleIds, true);
+        userService.findDtosByIds(sampleIds, false);
+        paymentCardService.findAllByUserIds(sampleIds);
+        paymentCardService.findAllByUserId(sampleIds.getFirst());
+    }
+
+    private void expectMissing(Runnable lookup) {
+        try {
+            lookup.run();
+        } catch (UserNotFoundException | PaymentCardNotFoundException ignored) {
+        }
+    }
+
+    private void mapAndSerialize() {
+        User user = sampleUser();
+
+        UserResponseDto dto = userMapper.toDto(user);
+        userMapper.toSlimDto(user);
+        user.getPaymentCards().forEach(paymentCardMapper::toDto);
+        ETagHelper.userETag(dto);
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(dto);
+            objectMapper.readValue(json, UserResponseDto.class);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        cacheValueSerializer.deserialize(cacheValueSerializer.serialize(dto));
+    }
+
+    private static User sampleUser() {
+        User user = User.builder()
+                .id(Long.MAX_VALUE)
+                .name("Warm")
+                .surname("Up")
+                .email("warmup@warmup.local")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .active(true)
+                .paymentCards(new ArrayList<>())
+                .build();
+        user.setUpdatedAt(Instant.now());
+
+        LongStream.rangeClosed(1, 3).forEach(i -> {
+            PaymentCard card = PaymentCard.builder()
+                    .id(Long.MAX_VALUE - i)
+                    .number("400000000000000" + i)
+                    .holder("WARM UP")
+                    .expirationDate(LocalDate.now().plusYears(3))
+                    .active(true)
+                    .user(user)
+                    .build();
+            card.setUpdatedAt(Instant.now());
+            user.getPaymentCards().add(card);
+        });
+
+        return user;
+    }
+}
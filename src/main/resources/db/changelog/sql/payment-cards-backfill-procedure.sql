@@ -0,0 +1,23 @@
+CREATE OR REPLACE PROCEDURE payment_cards_backfill(batch_size INT) AS $$
+DECLARE
+    last_id BIGINT := 0;
+    max_id  BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM payment_cards;
+
+    WHILE last_id < max_id LOOP
+        INSERT INTO payment_cards_partitioned
+            (id, user_id, number, holder, expiration_date, active, created_at, updated_at)
+        SELECT id, user_id, number, holder, expiration_date, active, created_at, updated_at
+        FROM payment_cards
+        WHERE id > last_id AND id <= last_id + batch_size
+        FOR SHARE
+        ON CONFLICT (user_id, id) DO NOTHING;
+
+        last_id := last_id + batch_size;
+        COMMIT;
+    END LOOP;
+
+    INSERT INTO payment_cards_backfill_state (completed_at) VALUES (now());
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,30 @@
+CREATE OR REPLACE FUNCTION payment_cards_mirror() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM payment_cards_partitioned
+        WHERE user_id = OLD.user_id AND id = OLD.id AND (TG_OP = 'DELETE' OR OLD.user_id <> NEW.user_id);
+    END IF;
+
+    IF TG_OP = 'DELETE' THEN
+        RETURN OLD;
+    END IF;
+
+    INSERT INTO payment_cards_partitioned
+        (id, user_id, number, holder, expiration_date, active, created_at, updated_at)
+    VALUES
+        (NEW.id, NEW.user_id, NEW.number, NEW.holder, NEW.expiration_date, NEW.active,
+         NEW.created_at, NEW.updated_at)
+    ON CONFLICT (user_id, id) DO UPDATE SET
+        number          = EXCLUDED.number,
+        holder          = EXCLUDED.holder,
+        expiration_date = EXCLUDED.expiration_date,
+        active          = EXCLUDED.active,
+        updated_at      = EXCLUDED.updated_at;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_payment_cards_mirror
+    AFTER INSERT OR UPDATE OR DELETE ON payment_cards
+    FOR EACH ROW EXECUTE FUNCTION payment_cards_mirror();
@@ -0,0 +1,15 @@
+-- Copies the legacy payment_cards rows into payment_cards_partitioned in committed batches.
+-- Run once, while the service keeps serving, after a release has created payment_cards_partitioned
+-- and the mirror trigger. The next application start then performs the swap:
+--   psql -h <host> -U <user> -d user_db -v batch_size=10000 -f src/main/resources/db/operations/payment-cards-backfill.sql
+\set ON_ERROR_STOP on
+\timing on
+
+\if :{?batch_size}
+\else
+\set batch_size 10000
+\endif
+
+CALL payment_cards_backfill(:batch_size);
+
+SELECT completed_at FROM payment_cards_backfill_state;
@@ -0,0 +1,134 @@
+package com.innowise.userservice.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.config.AdmissionProperties;
+import com.innowise.userservice.config.ClientIdentityProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AdmissionControlFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private AdmissionController admissionController;
+
+    private AdmissionControlFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties.EndpointClass endpointClass = new AdmissionProperties.EndpointClass();
+        endpointClass.setInitialLimit(2);
+        endpointClass.setMaxLimit(2);
+
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setClientShare(0.5);
+        properties.getClasses().put(AdmissionController.DEFAULT_CLASS, endpointClass);
+
+        admissionController = new AdmissionController(properties, new SimpleMeterRegistry());
+        ClientIdentityProperties clientIdentityProperties = new ClientIdentityProperties();
+        clientIdentityProperties.setHeader("X-Client-Id");
+        clientIdentityProperties.setTrustedProxies(List.of("192.0.2.0/24", "::1"));
+
+        filter = new AdmissionControlFilter(admissionController, properties, clientIdentityProperties, objectMapper);
+    }
+
+    @Test
+    void doFilter_shouldKeyOnRemoteAddress_ignoringClientSuppliedHeaders() throws Exception {
+        admissionController.tryAcquire(AdmissionController.DEFAULT_CLASS, "addr:10.0.0.1");
+        MockHttpServletRequest request = request("10.0.0.1");
+        request.addHeader("X-Client-Id", "someone-else");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+
+        Map<?, ?> body = objectMapper.readValue(response.getContentAsByteArray(), Map.class);
+        assertEquals("Too Many Requests", body.get("error"));
+        assertEquals("Too many concurrent requests from this client", body.get("message"));
+    }
+
+    @Test
+    void doFilter_shouldKeyOnForwardedClient_whenRequestComesThroughTrustedProxies() throws Exception {
+        admissionController.tryAcquire(AdmissionController.DEFAULT_CLASS, "addr:203.0.113.7");
+        MockHttpServletRequest limited = request("192.0.2.10");
+        limited.addHeader("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 192.0.2.20");
+        MockHttpServletResponse limitedResponse = new MockHttpServletResponse();
+
+        filter.doFilter(limited, limitedResponse, new MockFilterChain());
+
+        assertEquals(429, limitedResponse.getStatus());
+
+        MockHttpServletRequest other = request("192.0.2.10");
+        other.addHeader("X-Forwarded-For", "198.51.100.4");
+        MockHttpServletResponse otherResponse = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(other, otherResponse, chain);
+
+        assertEquals(200, otherResponse.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_shouldIgnoreForwardedFor_whenPeerIsNotTrustedProxy() throws Exception {
+        admissionController.tryAcquire(AdmissionController.DEFAULT_CLASS, "addr:10.0.0.1");
+        MockHttpServletRequest request = request("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "198.51.100.4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void doFilter_shouldKeyOnTrustedClientHeader_whenSetByProxy() throws Exception {
+        admissionController.tryAcquire(AdmissionController.DEFAULT_CLASS, "client:mobile-42");
+        MockHttpServletRequest request = request("::1");
+        request.addHeader("X-Client-Id", "mobile-42");
+        request.addHeader("X-Forwarded-For", "198.51.100.4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void doFilter_shouldRespondServiceUnavailable_whenClassIsFull() throws Exception {
+        admissionController.tryAcquire(AdmissionController.DEFAULT_CLASS, "addr:10.0.0.1");
+        admissionController.tryAcquire(AdmissionController.DEFAULT_CLASS, "addr:10.0.0.2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("10.0.0.3"), response, new MockFilterChain());
+
+        assertEquals(503, response.getStatus());
+
+        Map<?, ?> body = objectMapper.readValue(response.getContentAsByteArray(), Map.class);
+        assertEquals("Service Unavailable", body.get("error"));
+        assertEquals("Service is overloaded", body.get("message"));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        request.setRemoteAddr(remoteAddr);
+
+        return request;
+    }
+}
@@ -0,0 +1,69 @@
+package com.innowise.userservice.admission;
+
+import com.innowise.userservice.config.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdmissionControllerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties.EndpointClass search = new AdmissionProperties.EndpointClass();
+        search.setInitialLimit(4);
+        search.setMinLimit(1);
+        search.setMaxLimit(8);
+        search.setLatencyThreshold(Duration.ofMillis(100));
+        search.setBackoffRatio(0.5);
+
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setClientShare(0.5);
+        properties.getClasses().put(AdmissionController.SEARCH_CLASS, search);
+
+        meterRegistry = new SimpleMeterRegistry();
+        admissionController = new AdmissionController(properties, meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_shouldLimitSingleClientToItsShare_andShedOthersWhenClassIsFull() {
+        String search = AdmissionController.SEARCH_CLASS;
+
+        assertEquals(AdmissionController.Decision.ADMITTED, admissionController.tryAcquire(search, "batch-client"));
+        assertEquals(AdmissionController.Decision.ADMITTED, admissionController.tryAcquire(search, "batch-client"));
+        assertEquals(AdmissionController.Decision.CLIENT_LIMITED, admissionController.tryAcquire(search, "batch-client"));
+        assertEquals(AdmissionController.Decision.ADMITTED, admissionController.tryAcquire(search, "web"));
+        assertEquals(AdmissionController.Decision.ADMITTED, admissionController.tryAcquire(search, "mobile"));
+        assertEquals(AdmissionController.Decision.OVERLOADED, admissionController.tryAcquire(search, "other"));
+
+        assertEquals(1.0, meterRegistry.get("http.server.admission.rejected")
+                .tag("class", search).tag("reason", "client").counter().count());
+        assertEquals(1.0, meterRegistry.get("http.server.admission.rejected")
+                .tag("class", search).tag("reason", "overload").counter().count());
+    }
+
+    @Test
+    void release_shouldShrinkLimitOnSlowResponses_andGrowItWhenFastUnderLoad() {
+        String search = AdmissionController.SEARCH_CLASS;
+
+        admissionController.tryAcquire(search, "client");
+        admissionController.release(search, "client", TimeUnit.MILLISECONDS.toNanos(500), false);
+
+        assertEquals(2.0, meterRegistry.get("http.server.admission.limit").tag("class", search).gauge().value());
+
+        admissionController.tryAcquire(search, "a");
+        admissionController.tryAcquire(search, "b");
+        admissionController.release(search, "a", TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        assertEquals(3.0, meterRegistry.get("http.server.admission.limit").tag("class", search).gauge().value());
+        assertEquals(1.0, meterRegistry.get("http.server.admission.inflight").tag("class", search).gauge().value());
+    }
+}
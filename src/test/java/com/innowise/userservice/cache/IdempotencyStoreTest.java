@@ -0,0 +1,125 @@
+package com.innowise.userservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.config.IdempotencyProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    private static final String KEY = "idempotency::users:addr:10.0.0.1:k-1";
+
+    @Mock
+    private RedisTemplate<String, Object> cacheRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private IdempotencyProperties properties;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setTtl(Duration.ofHours(24));
+        properties.setLockTtl(Duration.ofSeconds(30));
+
+        when(cacheRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(KEY), any(), any(Duration.class))).thenReturn(true);
+
+        store = new IdempotencyStore(cacheRedisTemplate, new GenericJackson2JsonRedisSerializer(),
+                new ObjectMapper(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void execute_shouldReleaseOnlyItsOwnLock_whenActionFails() {
+        assertThrows(IllegalStateException.class, () -> store.execute("users", "addr:10.0.0.1", "k-1",
+                Map.of("email", "a@b.c"), HttpStatus.CREATED, String.class, () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        String owner = pendingOwner();
+        ArgumentCaptor<RedisScript<Long>> script = scriptCaptor();
+        verify(cacheRedisTemplate).execute(script.capture(), any(), any(), eq(List.of(KEY)), eq(owner));
+        assertTrue(script.getValue().getScriptAsString().contains("'DEL'"));
+        verify(cacheRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    void execute_shouldStoreResponseOnlyWhileStillOwningTheKey() {
+        assertEquals("created", store.execute("users", "addr:10.0.0.1", "k-1",
+                Map.of("email", "a@b.c"), HttpStatus.CREATED, String.class, () -> "created").getBody());
+
+        String owner = pendingOwner();
+        ArgumentCaptor<RedisScript<Long>> script = scriptCaptor();
+        ArgumentCaptor<Object> stored = ArgumentCaptor.forClass(Object.class);
+        verify(cacheRedisTemplate).execute(script.capture(), any(), any(), eq(List.of(KEY)),
+                eq(owner), stored.capture(), eq("86400000"));
+        assertTrue(script.getValue().getScriptAsString().contains("'SET'"));
+        assertTrue(stored.getValue().toString().contains("\"completed\":true"));
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    void execute_shouldKeepExtendingTheLock_whileActionRuns() {
+        properties.setLockTtl(Duration.ofMillis(30));
+
+        store.execute("users", "addr:10.0.0.1", "k-1", Map.of("email", "a@b.c"), HttpStatus.CREATED,
+                String.class, () -> {
+                    try {
+                        Thread.sleep(150);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    return "created";
+                });
+
+        String owner = pendingOwner();
+        ArgumentCaptor<RedisScript<Long>> script = scriptCaptor();
+        verify(cacheRedisTemplate, atLeast(2)).execute(script.capture(), any(), any(), eq(List.of(KEY)),
+                eq(owner), eq("30"));
+        assertTrue(script.getAllValues().stream().allMatch(s -> s.getScriptAsString().contains("'PEXPIRE'")));
+    }
+
+    private String pendingOwner() {
+        ArgumentCaptor<Object> pending = ArgumentCaptor.forClass(Object.class);
+        verify(valueOperations, atLeastOnce()).setIfAbsent(eq(KEY), pending.capture(), any(Duration.class));
+
+        return ((IdempotentResponse) pending.getValue()).getOwner();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<RedisScript<Long>> scriptCaptor() {
+        return ArgumentCaptor.forClass(RedisScript.class);
+    }
+}
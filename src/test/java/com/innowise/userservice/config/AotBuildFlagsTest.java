@@ -0,0 +1,51 @@
+package com.innowise.userservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AotBuildFlagsTest {
+
+    @Test
+    void snapshot_shouldRecordEveryBuildTimeFlagAndActiveProfiles() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("admission.enabled", "true");
+        environment.setActiveProfiles("docker");
+
+        Properties flags = AotBuildFlags.snapshot(environment);
+
+        assertEquals(AotBuildFlags.FLAGS.size() + 1, flags.size());
+        assertEquals("true", flags.getProperty("admission.enabled"));
+        assertEquals("", flags.getProperty("warmup.enabled"));
+        assertEquals("docker", flags.getProperty(AotBuildFlags.PROFILES));
+    }
+
+    @Test
+    void verify_shouldPass_whenRuntimeMatchesBuild() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true");
+
+        assertDoesNotThrow(() -> AotBuildFlags.verify(AotBuildFlags.snapshot(environment), environment));
+    }
+
+    @Test
+    void verify_shouldFailFast_whenBuildTimeFlagIsOverridden() {
+        Properties built = AotBuildFlags.snapshot(new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "true"));
+        MockEnvironment runtime = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", "false")
+                .withProperty("admission.enabled", "true");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> AotBuildFlags.verify(built, runtime));
+
+        assertTrue(e.getMessage().contains("admission.enabled='true' (built with '')"));
+        assertTrue(e.getMessage().contains("spring.threads.virtual.enabled='false' (built with 'true')"));
+    }
+}
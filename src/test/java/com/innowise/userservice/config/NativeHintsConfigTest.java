@@ -0,0 +1,42 @@
+package com.innowise.userservice.config;
+
+import com.innowise.userservice.cache.IdempotentResponse;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeHintsConfig.UserServiceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_shouldCoverDefaultTypedRedisValues() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserResponseDto.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(IdempotentResponse.class).test(hints));
+    }
+
+    @Test
+    void registerHints_shouldCoverReflectiveInfrastructure() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EhcacheCachingProvider.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, ResultSet.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/changelog/db.changelog-master.yaml").test(hints));
+    }
+}
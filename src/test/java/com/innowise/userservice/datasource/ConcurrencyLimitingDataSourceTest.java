@@ -0,0 +1,68 @@
+package com.innowise.userservice.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void getConnection_shouldTimeOut_whenAllPermitsAreHeld() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        assertEquals(1, dataSource.getActive());
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void close_shouldReleasePermitOnce() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection first = dataSource.getConnection();
+        first.close();
+        first.close();
+
+        assertEquals(0, dataSource.getActive());
+        dataSource.getConnection();
+        assertEquals(1, dataSource.getActive());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void getConnection_shouldReleasePermit_whenTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(0, dataSource.getActive());
+    }
+}
@@ -0,0 +1,159 @@
+package com.innowise.userservice.grpc;
+
+import com.innowise.userservice.dto.request.PaymentCardCreateDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserCardsResponseDto;
+import com.innowise.userservice.grpc.proto.CardIdRequest;
+import com.innowise.userservice.grpc.proto.CardsByUserRequest;
+import com.innowise.userservice.grpc.proto.CreateCardRequest;
+import com.innowise.userservice.grpc.proto.IdsRequest;
+import com.innowise.userservice.grpc.proto.PaymentCard;
+import com.innowise.userservice.grpc.proto.UserCards;
+import com.innowise.userservice.service.PaymentCardService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentCardGrpcServiceTest {
+
+    @Mock
+    private PaymentCardService paymentCardService;
+
+    @Mock
+    private StreamObserver<PaymentCard> responseObserver;
+
+    @Mock
+    private ServerCallStreamObserver<PaymentCard> cardStreamObserver;
+
+    @Mock
+    private ServerCallStreamObserver<UserCards> userCardsStreamObserver;
+
+    private PaymentCardGrpcService grpcService;
+
+    @BeforeEach
+    void setUp() {
+        GrpcRequestValidator validator = new GrpcRequestValidator(
+                Validation.buildDefaultValidatorFactory().getValidator());
+
+        grpcService = new PaymentCardGrpcService(paymentCardService, new GrpcMapper(), validator);
+    }
+
+    @Test
+    void getById_shouldReturnMappedCard() {
+        when(paymentCardService.findDtoById(5L)).thenReturn(card(5L));
+
+        grpcService.getById(CardIdRequest.newBuilder().setId(5L).build(), responseObserver);
+
+        ArgumentCaptor<PaymentCard> captor = ArgumentCaptor.forClass(PaymentCard.class);
+        verify(responseObserver).onNext(captor.capture());
+        verify(responseObserver).onCompleted();
+        assertEquals(5L, captor.getValue().getId());
+        assertEquals("2030-01-01", captor.getValue().getExpirationDate());
+    }
+
+    @Test
+    void create_shouldRejectInvalidRequest_withoutCallingService() {
+        CreateCardRequest request = CreateCardRequest.newBuilder()
+                .setNumber("123")
+                .setExpirationDate("2030-01-01")
+                .setUserId(1L)
+                .build();
+
+        assertThrows(ConstraintViolationException.class, () -> grpcService.create(request, responseObserver));
+
+        verify(paymentCardService, never()).create(any(PaymentCardCreateDto.class));
+        verifyNoInteractions(responseObserver);
+    }
+
+    @Test
+    void streamByUserId_shouldSendOnlyWhileStreamIsReady() {
+        when(paymentCardService.findAllByUserId(1L)).thenReturn(List.of(card(5L), card(6L)));
+        when(cardStreamObserver.isReady()).thenReturn(true, false, true, true);
+
+        grpcService.streamByUserId(CardsByUserRequest.newBuilder().setUserId(1L).build(), cardStreamObserver);
+
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(cardStreamObserver).setOnReadyHandler(onReady.capture());
+
+        onReady.getValue().run();
+
+        verify(cardStreamObserver, times(1)).onNext(any(PaymentCard.class));
+        verify(cardStreamObserver, never()).onCompleted();
+
+        onReady.getValue().run();
+
+        verify(cardStreamObserver, times(2)).onNext(any(PaymentCard.class));
+        verify(cardStreamObserver).onCompleted();
+    }
+
+    @Test
+    void streamByUserIds_shouldStreamOneMessagePerUser() {
+        MultiGetResponseDto<UserCardsResponseDto> found = MultiGetResponseDto.<UserCardsResponseDto>builder()
+                .items(List.of(new UserCardsResponseDto(1L, List.of(card(5L))),
+                        new UserCardsResponseDto(2L, List.of())))
+                .missingIds(List.of(3L))
+                .build();
+        when(paymentCardService.findAllByUserIds(List.of(1L, 2L, 3L))).thenReturn(found);
+        when(userCardsStreamObserver.isReady()).thenReturn(true);
+
+        grpcService.streamByUserIds(IdsRequest.newBuilder().addAllIds(List.of(1L, 2L, 3L)).build(),
+                userCardsStreamObserver);
+
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(userCardsStreamObserver).setOnReadyHandler(onReady.capture());
+        onReady.getValue().run();
+
+        ArgumentCaptor<UserCards> captor = ArgumentCaptor.forClass(UserCards.class);
+        verify(userCardsStreamObserver, times(2)).onNext(captor.capture());
+        verify(userCardsStreamObserver).onCompleted();
+        assertEquals(List.of(1L, 2L), captor.getAllValues().stream().map(UserCards::getUserId).toList());
+        assertEquals(1, captor.getAllValues().getFirst().getCardsCount());
+    }
+
+    @Test
+    void streamByUserId_shouldFailStream_whenSendingThrows() {
+        when(paymentCardService.findAllByUserId(1L)).thenReturn(List.of(card(5L)));
+        when(cardStreamObserver.isReady()).thenReturn(true);
+        doThrow(new IllegalStateException("boom")).when(cardStreamObserver).onNext(any(PaymentCard.class));
+
+        grpcService.streamByUserId(CardsByUserRequest.newBuilder().setUserId(1L).build(), cardStreamObserver);
+
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(cardStreamObserver).setOnReadyHandler(onReady.capture());
+        onReady.getValue().run();
+
+        ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+        verify(cardStreamObserver).onError(error.capture());
+        verify(cardStreamObserver, never()).onCompleted();
+        assertEquals(Status.Code.INTERNAL, ((StatusRuntimeException) error.getValue()).getStatus().getCode());
+    }
+
+    private static PaymentCardResponseDto card(long id) {
+        return PaymentCardResponseDto.builder()
+                .id(id)
+                .number("1111222233334444")
+                .holder("JOHN DOE")
+                .expirationDate(LocalDate.of(2030, 1, 1))
+                .active(true)
+                .build();
+    }
+}
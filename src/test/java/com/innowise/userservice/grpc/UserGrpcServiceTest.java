@@ -0,0 +1,135 @@
+package com.innowise.userservice.grpc;
+
+import com.innowise.userservice.dto.request.UserCreateDto;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.grpc.proto.CreateUserRequest;
+import com.innowise.userservice.grpc.proto.SearchUsersRequest;
+import com.innowise.userservice.grpc.proto.User;
+import com.innowise.userservice.grpc.proto.UserIdRequest;
+import com.innowise.userservice.loader.UserDtoBatchLoader;
+import com.innowise.userservice.service.UserService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserGrpcServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserDtoBatchLoader userDtoLoader;
+
+    @Mock
+    private StreamObserver<User> responseObserver;
+
+    @Mock
+    private ServerCallStreamObserver<User> streamObserver;
+
+    private UserGrpcService grpcService;
+
+    @BeforeEach
+    void setUp() {
+        GrpcRequestValidator validator = new GrpcRequestValidator(
+                Validation.buildDefaultValidatorFactory().getValidator());
+
+        grpcService = new UserGrpcService(userService, userDtoLoader, new GrpcMapper(), validator);
+    }
+
+    @Test
+    void getById_shouldReturnUserWithCards_whenCardsRequested() {
+        UserResponseDto dto = UserResponseDto.builder()
+                .id(1L)
+                .name("John")
+                .email("john@example.com")
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .active(true)
+                .updatedAt(Instant.ofEpochSecond(1_700_000_000L))
+                .paymentCards(List.of(PaymentCardResponseDto.builder().id(5L).number("1234").build()))
+                .build();
+        when(userDtoLoader.findDtoById(1L, true)).thenReturn(dto);
+
+        grpcService.getById(UserIdRequest.newBuilder().setId(1L).setWithCards(true).build(), responseObserver);
+
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+        verify(responseObserver).onNext(captor.capture());
+        verify(responseObserver).onCompleted();
+        assertEquals("1990-05-15", captor.getValue().getBirthDate());
+        assertEquals(1_700_000_000L, captor.getValue().getUpdatedAt().getSeconds());
+        assertEquals(5L, captor.getValue().getPaymentCards(0).getId());
+    }
+
+    @Test
+    void create_shouldRejectInvalidRequest_withoutCallingService() {
+        CreateUserRequest request = CreateUserRequest.newBuilder()
+                .setName("John")
+                .setEmail("not-an-email")
+                .build();
+
+        assertThrows(ConstraintViolationException.class, () -> grpcService.create(request, responseObserver));
+
+        verify(userService, never()).create(any(UserCreateDto.class));
+        verifyNoInteractions(responseObserver);
+    }
+
+    @Test
+    void search_shouldPageByLastIdAndPause_whenStreamIsNotReady() {
+        UserResponseDto john = UserResponseDto.builder().id(1L).build();
+        UserResponseDto jane = UserResponseDto.builder().id(2L).build();
+        when(userService.findAllAfterId(null, null, null, true, false, 0L, 1)).thenReturn(List.of(john));
+        when(userService.findAllAfterId(null, null, null, true, false, 1L, 1)).thenReturn(List.of(jane));
+        when(userService.findAllAfterId(null, null, null, true, false, 2L, 1)).thenReturn(List.of());
+        when(streamObserver.isReady()).thenReturn(true, false, true, true);
+
+        grpcService.search(SearchUsersRequest.newBuilder().setActive(true).setPageSize(1).build(), streamObserver);
+
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(streamObserver).setOnReadyHandler(onReady.capture());
+        verifyNoInteractions(userService);
+
+        onReady.getValue().run();
+
+        verify(streamObserver, times(1)).onNext(any(User.class));
+        verify(streamObserver, never()).onCompleted();
+
+        onReady.getValue().run();
+
+        verify(streamObserver, times(2)).onNext(any(User.class));
+        verify(streamObserver).onCompleted();
+    }
+
+    @Test
+    void search_shouldStopStreaming_whenCallIsCancelled() {
+        grpcService.search(SearchUsersRequest.getDefaultInstance(), streamObserver);
+
+        ArgumentCaptor<Runnable> onCancel = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(streamObserver).setOnCancelHandler(onCancel.capture());
+        verify(streamObserver).setOnReadyHandler(onReady.capture());
+
+        onCancel.getValue().run();
+        onReady.getValue().run();
+
+        verifyNoInteractions(userService);
+        verify(streamObserver, never()).onNext(any(User.class));
+        verify(streamObserver, never()).onCompleted();
+    }
+}
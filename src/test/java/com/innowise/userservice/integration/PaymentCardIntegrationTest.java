@@ -72,6 +72,7 @@ class PaymentCardIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
+    @QueryBudget(1)
     void shouldGetCardById() throws Exception {
         mockMvc.perform(get("/cards/{id}", activeCard.getId())
                         .contentType(APPLICATION_JSON))
@@ -84,6 +85,7 @@ class PaymentCardIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
+    @QueryBudget(1)
     void shouldFindAllCardsForUser() throws Exception {
         mockMvc.perform(get("/cards/user/{userId}", testUser.getId())
                         .contentType(APPLICATION_JSON))
@@ -94,6 +96,21 @@ class PaymentCardIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
+    void shouldFindAllCardsForUsers() throws Exception {
+        long missingUserId = testUser.getId() + 1000;
+
+        mockMvc.perform(get("/cards/users")
+                        .param("ids", testUser.getId() + "," + missingUserId)
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].userId", is(testUser.getId().intValue())))
+                .andExpect(jsonPath("$.items[0].cards", hasSize(2)))
+                .andExpect(jsonPath("$.missingIds", contains((int) missingUserId)));
+    }
+
+    @Test
+    @QueryBudget(2)
     void shouldFindAllCardsWithNoFilter() throws Exception {
         mockMvc.perform(get("/cards")
                         .param("page", "0")
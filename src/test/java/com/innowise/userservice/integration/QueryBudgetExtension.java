@@ -0,0 +1,40 @@
+package com.innowise.userservice.integration;
+
+import com.innowise.userservice.monitoring.SqlStatistics;
+import com.innowise.userservice.monitoring.SqlStatisticsHolder;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (context.getRequiredTestMethod().isAnnotationPresent(QueryBudget.class)) {
+            context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatisticsHolder.start());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatistics statistics = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatistics.class);
+
+        if (statistics == null) {
+            return;
+        }
+
+        SqlStatisticsHolder.stop(statistics);
+
+        int budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).value();
+
+        assertTrue(statistics.getStatements() <= budget,
+                () -> "Expected at most " + budget + " SQL statements but " + statistics.getStatements()
+                        + " were executed (" + statistics.getRows() + " rows)");
+    }
+}
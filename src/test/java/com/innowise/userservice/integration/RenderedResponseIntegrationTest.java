@@ -0,0 +1,153 @@
+package com.innowise.userservice.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.dto.request.PaymentCardCreateDto;
+import com.innowise.userservice.dto.request.UserUpdateDto;
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import com.innowise.userservice.repository.PaymentCardRepository;
+import com.innowise.userservice.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "cache.rendered-responses=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RenderedResponseIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaymentCardRepository paymentCardRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private PaymentCard card;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("John")
+                .surname("Doe")
+                .email("rendered@test.com")
+                .birthDate(LocalDate.of(1990, 5, 15))
+                .active(true)
+                .build());
+
+        card = paymentCardRepository.save(PaymentCard.builder()
+                .number("1111222233334444")
+                .holder("JOHN DOE")
+                .expirationDate(LocalDate.now().plusYears(1))
+                .active(true)
+                .user(user)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentCardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldServeRenderedUser_andRefreshItAfterUpdate() throws Exception {
+        String eTag = mockMvc.perform(get("/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("John")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("$.name", is("John")));
+
+        mockMvc.perform(get("/users/{id}", user.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        UserUpdateDto updateDto = UserUpdateDto.builder()
+                .id(user.getId())
+                .name("Renamed")
+                .build();
+
+        mockMvc.perform(put("/users/{id}", user.getId())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.name", is("Renamed")));
+    }
+
+    @Test
+    void shouldRefreshRenderedUserAndCards_afterCardIsCreated() throws Exception {
+        mockMvc.perform(get("/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paymentCards", hasSize(1)));
+        mockMvc.perform(get("/cards/user/{userId}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        PaymentCardCreateDto createDto = PaymentCardCreateDto.builder()
+                .number("5555666677778888")
+                .expirationDate(LocalDate.of(2030, 1, 1))
+                .userId(user.getId())
+                .build();
+
+        mockMvc.perform(post("/cards")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paymentCards", hasSize(2)));
+        mockMvc.perform(get("/cards/user/{userId}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    void shouldRefreshRenderedCardAndOwner_afterStatusChange() throws Exception {
+        String eTag = mockMvc.perform(get("/cards/{id}", card.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active", is(true)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paymentCards[0].active", is(true)));
+
+        mockMvc.perform(patch("/cards/{id}/deactivate", card.getId())
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/cards/{id}", card.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("$.active", is(false)));
+        mockMvc.perform(get("/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paymentCards[0].active", is(false)));
+    }
+}
@@ -0,0 +1,154 @@
+package com.innowise.userservice.integration;
+
+import com.innowise.userservice.entity.PaymentCard;
+import com.innowise.userservice.entity.User;
+import com.innowise.userservice.repository.PaymentCardRepository;
+import com.innowise.userservice.repository.UserRepository;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability(metrics = false)
+@Import(TracingIntegrationTest.InMemoryTracingConfig.class)
+@TestPropertySource(properties = "management.tracing.sampling.probability=1.0")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class TracingIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PaymentCardRepository paymentCardRepository;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Trace")
+                .surname("Test")
+                .email("trace@example.com")
+                .birthDate(LocalDate.of(1995, 5, 5))
+                .active(true)
+                .build());
+
+        paymentCardRepository.save(PaymentCard.builder()
+                .number("4000123412341234")
+                .holder("TRACE TEST")
+                .expirationDate(LocalDate.now().plusYears(2))
+                .active(true)
+                .user(user)
+                .build());
+
+        flush();
+        spanExporter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentCardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldTraceRequestThroughServiceCacheRepositoryJdbcAndMapping() throws Exception {
+        mockMvc.perform(get("/cards/user/{userId}", user.getId()))
+                .andExpect(status().isOk());
+
+        flush();
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        SpanData http = spans.stream()
+                .filter(span -> span.getName().contains("/cards/user/{userId}"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No HTTP span in " + names(spans)));
+        List<SpanData> trace = spans.stream()
+                .filter(span -> span.getTraceId().equals(http.getTraceId()))
+                .toList();
+        Map<String, SpanData> byId = trace.stream()
+                .collect(Collectors.toMap(SpanData::getSpanId, Function.identity()));
+
+        SpanData service = named(trace, "PaymentCardService#findAllByUserId");
+        SpanData cache = named(trace, "get cards");
+        SpanData repository = named(trace, "PaymentCardRepository#findAllByUserId");
+        SpanData jdbc = named(trace, "jdbc select");
+        SpanData mapping = named(trace, "PaymentCardMapper#toDto");
+
+        assertEquals("miss", cache.getAttributes().asMap().entrySet().stream()
+                .filter(entry -> entry.getKey().getKey().equals("result"))
+                .map(entry -> entry.getValue().toString())
+                .findFirst()
+                .orElse(null));
+        assertTrue(descendsFrom(service, http, byId));
+        assertTrue(descendsFrom(cache, service, byId));
+        assertTrue(descendsFrom(repository, service, byId));
+        assertTrue(descendsFrom(jdbc, repository, byId));
+        assertTrue(descendsFrom(mapping, service, byId));
+    }
+
+    private void flush() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    }
+
+    private static SpanData named(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span " + name + " in " + names(spans)));
+    }
+
+    private static boolean descendsFrom(SpanData span, SpanData ancestor, Map<String, SpanData> byId) {
+        SpanData current = span;
+
+        while (current != null) {
+            if (current.getParentSpanId().equals(ancestor.getSpanId())) {
+                return true;
+            }
+
+            current = byId.get(current.getParentSpanId());
+        }
+
+        return false;
+    }
+
+    private static List<String> names(List<SpanData> spans) {
+        return spans.stream().map(SpanData::getName).toList();
+    }
+
+    @TestConfiguration
+    static class InMemoryTracingConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
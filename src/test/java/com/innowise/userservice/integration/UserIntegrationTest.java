@@ -1,21 +1,28 @@
 package com.innowise.userservice.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.cache.IdempotencyStore;
+import com.innowise.userservice.dto.request.BatchRequestDto;
 import com.innowise.userservice.dto.request.UserCreateDto;
 import com.innowise.userservice.dto.request.UserUpdateDto;
 import com.innowise.userservice.entity.User;
+import com.innowise.userservice.monitoring.SqlStatisticsResponseAdvice;
 import com.innowise.userservice.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -57,6 +64,7 @@ class UserIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
+    @QueryBudget(2)
     void shouldGetUserById() throws Exception {
         mockMvc.perform(get("/users/{id}", activeUser.getId())
                         .contentType(APPLICATION_JSON))
@@ -68,6 +76,7 @@ class UserIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
+    @QueryBudget(2)
     void shouldGetUserByEmail() throws Exception {
         mockMvc.perform(get("/users/email/{email}", inactiveUser.getEmail())
                         .contentType(APPLICATION_JSON))
@@ -78,6 +87,7 @@ class UserIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
+    @QueryBudget(3)
     void shouldFindAllUsersWithNoFilter() throws Exception {
         mockMvc.perform(get("/users")
                         .param("page", "0")
@@ -89,6 +99,7 @@ class UserIntegrationTest extends BaseIntegrationTest {
     }
 
     @Test
+    @QueryBudget(3)
     void shouldFindAllActiveUsersFilter() throws Exception {
         mockMvc.perform(get("/users")
                         .param("active", "true")
@@ -111,6 +122,30 @@ class UserIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.totalElements", is(1)));
     }
 
+    @Test
+    void shouldGetUsersByIdsPreservingOrderAndReportingMissing() throws Exception {
+        long missingId = inactiveUser.getId() + 1000;
+
+        mockMvc.perform(get("/users")
+                        .param("ids", inactiveUser.getId() + "," + missingId + "," + activeUser.getId())
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", is(inactiveUser.getId().intValue())))
+                .andExpect(jsonPath("$.items[1].id", is(activeUser.getId().intValue())))
+                .andExpect(jsonPath("$.missingIds", contains((int) missingId)));
+    }
+
+    @Test
+    void shouldExposeSqlStatisticsHeaders() throws Exception {
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatisticsResponseAdvice.STATEMENTS_HEADER))
+                .andExpect(header().exists(SqlStatisticsResponseAdvice.ROWS_HEADER))
+                .andExpect(header().exists(SqlStatisticsResponseAdvice.TIME_HEADER));
+    }
+
     @Test
     void shouldCreateUser() throws Exception {
         UserCreateDto createDto = UserCreateDto.builder()
@@ -132,6 +167,195 @@ class UserIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.active", is(true)));
     }
 
+    @Test
+    void shouldReplayCreateResponse_whenIdempotencyKeyIsRepeated() throws Exception {
+        UserCreateDto createDto = UserCreateDto.builder()
+                .name("Retry")
+                .surname("User")
+                .email("retry.user@create.com")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .build();
+
+        String created = mockMvc.perform(post("/users")
+                        .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "create-retry-1")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyStore.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/users")
+                        .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "create-retry-1")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyStore.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.id", is(objectMapper.readTree(created).get("id").intValue())));
+
+        mockMvc.perform(post("/users")
+                        .with(request -> {
+                            request.setRemoteAddr("203.0.113.9");
+                            return request;
+                        })
+                        .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "create-retry-1")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyStore.REPLAYED_HEADER, "true"));
+
+        createDto.setEmail("other.user@create.com");
+
+        mockMvc.perform(post("/users")
+                        .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "create-retry-1")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isUnprocessableEntity());
+
+        mockMvc.perform(post("/users")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.2");
+                            return request;
+                        })
+                        .header("X-Client-Id", "partner-b")
+                        .header(IdempotencyStore.IDEMPOTENCY_KEY_HEADER, "create-retry-1")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyStore.REPLAYED_HEADER))
+                .andExpect(jsonPath("$.email", is("other.user@create.com")));
+    }
+
+    @Test
+    @QueryBudget(7)
+    void shouldCreateUsersInBatchWithPerItemResults() throws Exception {
+        BatchRequestDto<UserCreateDto> request = new BatchRequestDto<>(List.of(
+                batchUser("batch.one@create.com"),
+                batchUser(activeUser.getEmail()),
+                batchUser("batch.two@create.com"),
+                batchUser("batch.one@create.com")));
+
+        mockMvc.perform(post("/users/batch")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[*].status", contains(201, 409, 201, 409)))
+                .andExpect(jsonPath("$[0].item.id", is(notNullValue())))
+                .andExpect(jsonPath("$[2].item.email", is("batch.two@create.com")));
+
+        mockMvc.perform(get("/users/email/{email}", "batch.two@create.com"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldIncludeCardsByDefaultAndOmitThemOnRequest() throws Exception {
+        mockMvc.perform(get("/users/{id}", activeUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email", is(activeUser.getEmail())))
+                .andExpect(jsonPath("$.paymentCards", hasSize(0)));
+
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .param("exclude", "cards"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email", is(activeUser.getEmail())))
+                .andExpect(jsonPath("$.paymentCards").doesNotExist());
+
+        mockMvc.perform(get("/users/email/{email}", activeUser.getEmail()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paymentCards", hasSize(0)));
+
+        mockMvc.perform(get("/users")
+                        .param("exclude", "cards"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].paymentCards").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .param("fields", "name,email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(activeUser.getId().intValue())))
+                .andExpect(jsonPath("$.name", is(activeUser.getName())))
+                .andExpect(jsonPath("$.email", is(activeUser.getEmail())))
+                .andExpect(jsonPath("$.surname").doesNotExist())
+                .andExpect(jsonPath("$.paymentCards").doesNotExist());
+
+        mockMvc.perform(get("/users")
+                        .param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name", is(notNullValue())))
+                .andExpect(jsonPath("$.content[0].email").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnNotModified_whenETagMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/users/{id}", activeUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldVaryETagBySelectedFields() throws Exception {
+        String nameETag = mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .param("fields", "name"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(nameETag)));
+
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .param("fields", "email")
+                        .header(HttpHeaders.IF_NONE_MATCH, nameETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email", is(activeUser.getEmail())));
+
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .param("fields", "name")
+                        .header(HttpHeaders.IF_NONE_MATCH, nameETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldRejectUpdate_whenIfMatchIsStale() throws Exception {
+        String eTag = mockMvc.perform(get("/users/{id}", activeUser.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        UserUpdateDto updateDto = UserUpdateDto.builder()
+                .id(activeUser.getId())
+                .name("First")
+                .build();
+
+        String newETag = mockMvc.perform(put("/users/{id}", activeUser.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        updateDto.setName("Second");
+
+        mockMvc.perform(put("/users/{id}", activeUser.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/users/{id}", activeUser.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, newETag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void shouldUpdateUser() throws Exception {
         UserUpdateDto updateDto = UserUpdateDto.builder()
@@ -178,4 +402,13 @@ class UserIntegrationTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.id", is(activeUser.getId().intValue())))
                 .andExpect(jsonPath("$.active", is(false)));
     }
-}
\ No newline at end of file
+
+    private UserCreateDto batchUser(String email) {
+        return UserCreateDto.builder()
+                .name("Batch")
+                .surname("User")
+                .email(email)
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.innowise.userservice.loader;
+
+import com.innowise.userservice.config.LoaderProperties;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.exception.ServiceUnavailableException;
+import com.innowise.userservice.exception.UserNotFoundException;
+import com.innowise.userservice.monitoring.SqlStatistics;
+import com.innowise.userservice.monitoring.SqlStatisticsHolder;
+import com.innowise.userservice.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDtoBatchLoaderTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private LoaderProperties loaderProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDtoBatchLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loaderProperties = new LoaderProperties();
+        loaderProperties.setEnabled(true);
+        loaderProperties.setWindow(Duration.ofMillis(200));
+        loaderProperties.setMaxBatchSize(4);
+        loaderProperties.setTimeout(Duration.ofSeconds(5));
+
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new UserDtoBatchLoader(userService, redisCacheManager, loaderProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    void findDtoById_shouldReturnCachedDto_withoutBatching() {
+        UserResponseDto cached = UserResponseDto.builder().id(1L).build();
+        when(redisCacheManager.getCache("user-slim")).thenReturn(cache);
+        when(cache.get(1L, UserResponseDto.class)).thenReturn(cached);
+
+        assertSame(cached, loader.findDtoById(1L, false));
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findDtoById_shouldResolveConcurrentMissesWithOneLookup_whenBatchFills() throws Exception {
+        when(redisCacheManager.getCache("user")).thenReturn(cache);
+        when(userService.findDtosByIds(anyList(), eq(true))).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+
+            return MultiGetResponseDto.<UserResponseDto>builder()
+                    .items(ids.stream().map(id -> UserResponseDto.builder().id(id).build()).toList())
+                    .missingIds(List.of())
+                    .build();
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<UserResponseDto>> results = LongStream.rangeClosed(1, 4)
+                    .mapToObj(id -> CompletableFuture.supplyAsync(() -> loader.findDtoById(id, true), callers))
+                    .toList();
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i + 1L, results.get(i).get().getId());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userService).findDtosByIds(captor.capture(), eq(true));
+        assertEquals(4, captor.getValue().size());
+        assertEquals(4.0, meterRegistry.get("users.loader.batch.size").tag("cards", "true").summary().totalAmount());
+    }
+
+    @Test
+    void findDtoById_shouldFallBackToSingleLookup_whenIdIsMissingFromBatch() {
+        when(redisCacheManager.getCache("user-slim")).thenReturn(cache);
+        when(userService.findDtosByIds(List.of(7L), false)).thenReturn(MultiGetResponseDto.<UserResponseDto>builder()
+                .items(List.of())
+                .missingIds(List.of(7L))
+                .build());
+        when(userService.findSlimDtoById(7L)).thenThrow(new UserNotFoundException("id", "7"));
+
+        assertThrows(UserNotFoundException.class, () -> loader.findDtoById(7L, false));
+
+        verify(userService).findSlimDtoById(7L);
+    }
+
+    @Test
+    void findDtoById_shouldNotResolveBatchInCallerStatistics() {
+        when(redisCacheManager.getCache("user-slim")).thenReturn(cache);
+        AtomicReference<SqlStatistics> seen = new AtomicReference<>();
+        when(userService.findDtosByIds(List.of(3L), false)).thenAnswer(invocation -> {
+            seen.set(SqlStatisticsHolder.current());
+
+            return MultiGetResponseDto.<UserResponseDto>builder()
+                    .items(List.of(UserResponseDto.builder().id(3L).build()))
+                    .missingIds(List.of())
+                    .build();
+        });
+
+        SqlStatistics statistics = SqlStatisticsHolder.start();
+        try {
+            assertEquals(3L, loader.findDtoById(3L, false).getId());
+        } finally {
+            SqlStatisticsHolder.stop(statistics);
+        }
+
+        assertNull(seen.get());
+    }
+
+    @Test
+    void findDtoById_shouldGiveUp_whenBatchDoesNotCompleteInTime() {
+        loaderProperties.setTimeout(Duration.ofMillis(300));
+        when(redisCacheManager.getCache("user")).thenReturn(cache);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userService.findDtosByIds(List.of(9L), true)).thenAnswer(invocation -> {
+            release.await();
+
+            return MultiGetResponseDto.<UserResponseDto>builder()
+                    .items(List.of())
+                    .missingIds(List.of(9L))
+                    .build();
+        });
+
+        try {
+            assertThrows(ServiceUnavailableException.class, () -> loader.findDtoById(9L, true));
+        } finally {
+            release.countDown();
+        }
+
+        verify(userService, never()).findDtoById(9L);
+    }
+}
@@ -0,0 +1,80 @@
+package com.innowise.userservice.monitoring;
+
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.exception.UserNotFoundException;
+import com.innowise.userservice.service.UserService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private UserService userService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(userService);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void time_shouldRecordSuccessWithCacheTime() {
+        TimedCache cache = new TimedCache(new ConcurrentMapCache("user"));
+        UserResponseDto dto = UserResponseDto.builder().id(1L).build();
+        when(userService.findDtoById(1L)).thenAnswer(invocation -> {
+            cache.put(1L, dto);
+            return cache.get(1L, UserResponseDto.class);
+        });
+
+        assertEquals(dto, proxy.findDtoById(1L));
+
+        Timer calls = meterRegistry.get("app.service.calls")
+                .tag("class", "UserService")
+                .tag("method", "findDtoById")
+                .tag("outcome", "SUCCESS")
+                .tag("exception", "none")
+                .timer();
+        Timer cacheTime = meterRegistry.get("app.service.cache.time").tag("method", "findDtoById").timer();
+
+        assertEquals(1, calls.count());
+        assertEquals(1, cacheTime.count());
+        assertTrue(cacheTime.totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(1, meterRegistry.get("app.service.db.time").tag("method", "findDtoById").timer().count());
+    }
+
+    @Test
+    void time_shouldRecordErrorOutcomeWithExceptionType() {
+        when(userService.findSlimDtoById(2L)).thenThrow(new UserNotFoundException("id", "2"));
+
+        assertThrows(UserNotFoundException.class, () -> proxy.findSlimDtoById(2L));
+
+        assertEquals(1, meterRegistry.get("app.service.calls")
+                .tag("method", "findSlimDtoById")
+                .tag("outcome", "ERROR")
+                .tag("exception", "UserNotFoundException")
+                .timer()
+                .count());
+    }
+}
@@ -0,0 +1,229 @@
+package com.innowise.userservice.monitoring;
+
+import com.innowise.userservice.config.SlowQueryProperties;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlowQueryMonitorTest {
+
+    private static final String FIND_BY_NUMBER = "SELECT * FROM payment_cards pc WHERE pc.number = ?";
+    private static final String FIND_BY_NUMBER_AND_HOLDER =
+            "SELECT * FROM payment_cards pc WHERE pc.number = ? AND pc.holder = ? AND pc.note <> '?'";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private SlowQueryProperties properties;
+
+    private SlowQueryMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMillis(100));
+        properties.getExplain().setEnabled(false);
+        monitor = new SlowQueryMonitor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+    }
+
+    @Test
+    void isSlow_shouldCompareAgainstThreshold() {
+        assertFalse(monitor.isSlow(99));
+        assertTrue(monitor.isSlow(100));
+    }
+
+    @Test
+    void record_shouldAggregateByNormalizedStatement() throws Exception {
+        monitor.record("select u.id from users u where u.surname like '%smith%'  and u.id in (1, 2, 3)",
+                150, List.of(), false, dataSource);
+        monitor.record("select u.id from users u\nwhere u.surname like '%jones%' and u.id in (4, 5)",
+                250, List.of(), false, dataSource);
+        monitor.record(FIND_BY_NUMBER, 120, List.of(setString(1, "4111111111111111")), false, dataSource);
+
+        List<SlowQuerySummary> top = monitor.top(10);
+
+        assertEquals(2, top.size());
+        SlowQuerySummary like = top.getFirst();
+        assertEquals("select u.id from users u where u.surname like ? and u.id in (?, ...)", like.statement());
+        assertEquals("SELECT", like.operation());
+        assertEquals(2, like.count());
+        assertEquals(400, like.totalMillis());
+        assertEquals(200.0, like.meanMillis());
+        assertEquals(250, like.maxMillis());
+        assertNull(like.plan());
+        assertEquals(FIND_BY_NUMBER, top.get(1).statement());
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void record_shouldStopAggregatingNewStatementsAtCapacity() {
+        properties.setMaxStatements(1);
+
+        monitor.record("select 1", 150, List.of(), false, dataSource);
+        monitor.record("delete from users where id = ?", 150, List.of(), false, dataSource);
+        monitor.record("select 2", 150, List.of(), false, dataSource);
+
+        List<SlowQuerySummary> top = monitor.top(10);
+        assertEquals(1, top.size());
+        assertEquals("select ?", top.getFirst().statement());
+        assertEquals(2, top.getFirst().count());
+    }
+
+    @Test
+    void record_shouldCaptureRedactedGenericPlanWithBoundParameters() throws Exception {
+        properties.getExplain().setEnabled(true);
+        properties.getExplain().setSampleRate(1.0);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, true, false);
+        when(resultSet.getString(1)).thenReturn(
+                "Index Scan using payment_cards_user_id_idx on payment_cards pc  (cost=0.29..8.31 rows=1 width=72)",
+                "  Index Cond: (user_id = 42)",
+                "  Filter: (((number)::text = '4111111111111111'::text) AND ((holder)::text = 'O''BRIEN'::text))",
+                "  Rows Removed by Filter: 3");
+
+        monitor.record(FIND_BY_NUMBER_AND_HOLDER, 300,
+                List.of(setString(1, "4111111111111111"), setNull(2)), false, dataSource);
+
+        verify(connection, timeout(2000)).close();
+        InOrder order = inOrder(connection, statement, preparedStatement);
+        order.verify(connection).setReadOnly(true);
+        order.verify(statement).execute("SET LOCAL statement_timeout = 5000");
+        order.verify(statement).execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        order.verify(statement).execute("PREPARE slow_query_explain AS "
+                + "SELECT * FROM payment_cards pc WHERE pc.number = $1 AND pc.holder = $2 AND pc.note <> '?'");
+        order.verify(connection).prepareStatement("EXPLAIN (ANALYZE, BUFFERS) EXECUTE slow_query_explain(?, ?)");
+        order.verify(preparedStatement).setObject(1, "4111111111111111");
+        order.verify(preparedStatement).setNull(2, Types.VARCHAR);
+        order.verify(connection).rollback();
+        order.verify(statement).execute("DEALLOCATE slow_query_explain");
+
+        SlowQuerySummary summary = awaitPlan();
+        assertEquals("""
+                Index Scan using payment_cards_user_id_idx on payment_cards pc  (cost=0.29..8.31 rows=1 width=72)
+                  Index Cond: (user_id = ?)
+                  Filter: (((number)::text = '?'::text) AND ((holder)::text = '?'::text))
+                  Rows Removed by Filter: 3
+                """, summary.plan());
+        assertFalse(summary.plan().contains("4111"));
+    }
+
+    @Test
+    void record_shouldAllowExplainAgain_whenQueueIsFull() throws Exception {
+        properties.getExplain().setEnabled(true);
+        properties.getExplain().setSampleRate(1.0);
+        properties.getExplain().setQueueCapacity(1);
+        monitor.shutdown();
+        monitor = new SlowQueryMonitor(properties);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            throw new SQLException("unavailable");
+        });
+
+        monitor.record("select id from users", 300, List.of(), false, dataSource);
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        monitor.record("select id from payment_cards", 300, List.of(), false, dataSource);
+        monitor.record("select name from users", 300, List.of(), false, dataSource);
+        release.countDown();
+        verify(dataSource, timeout(2000).times(2)).getConnection();
+
+        monitor.record("select name from users", 300, List.of(), false, dataSource);
+
+        verify(dataSource, timeout(2000).times(3)).getConnection();
+    }
+
+    @Test
+    void record_shouldNotExplainWrites() {
+        properties.getExplain().setEnabled(true);
+        properties.getExplain().setSampleRate(1.0);
+
+        monitor.record("update users set active = false where id = ?", 300, List.of(), false, dataSource);
+        monitor.record(FIND_BY_NUMBER, 300, List.of(), true, dataSource);
+
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void reset_shouldClearStatistics() {
+        monitor.record(FIND_BY_NUMBER, 300, List.of(), false, dataSource);
+
+        monitor.reset();
+
+        assertTrue(monitor.top(10).isEmpty());
+    }
+
+    private SlowQuerySummary awaitPlan() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            SlowQuerySummary summary = monitor.top(1).getFirst();
+
+            if (summary.plan() != null) {
+                return summary;
+            }
+
+            Thread.sleep(20);
+        }
+
+        return monitor.top(1).getFirst();
+    }
+
+    private static ParameterSetOperation setString(int index, String value) throws NoSuchMethodException {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                new Object[]{index, value});
+    }
+
+    private static ParameterSetOperation setNull(int index) throws NoSuchMethodException {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                new Object[]{index, Types.VARCHAR});
+    }
+}
@@ -0,0 +1,123 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.scheduler.InactiveUserArchiver;
+import com.innowise.userservice.service.UserService;
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(classes = ReactiveReadApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.autoconfigure.exclude=")
+@ActiveProfiles(ReactiveReadApplication.PROFILE)
+@Testcontainers(disabledWithoutDocker = true)
+class ReactiveReadApplicationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Container
+    @ServiceConnection
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:7").
+            withExposedPorts(6379);
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient client;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(),
+                postgres.getUsername(), postgres.getPassword())) {
+            Database database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+
+            new Liquibase("db/changelog/db.changelog-master.yaml", new ClassLoaderResourceAccessor(), database)
+                    .update(new Contexts());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port + "/api").build();
+
+        databaseClient.sql("""
+                        INSERT INTO users (id, name, surname, birth_date, email, active, created_at, updated_at)
+                        VALUES (1, 'John', 'Doe', '1990-01-01', 'john@example.com', true, now(), now())
+                        ON CONFLICT DO NOTHING""")
+                .then()
+                .then(databaseClient.sql("""
+                        INSERT INTO users_archive (id, name, surname, birth_date, email, active, created_at, updated_at, archived_at)
+                        VALUES (2, 'Jane', 'Roe', '1991-02-02', 'jane@example.com', false, now(), now(), now())
+                        ON CONFLICT DO NOTHING""").then())
+                .block();
+    }
+
+    @Test
+    void reactiveProfile_shouldNotStartJpaOrServletStack() {
+        assertNull(context.getBeanProvider(DataSource.class).getIfAvailable());
+        assertEquals(0, context.getBeanNamesForType(UserService.class).length);
+        assertEquals(0, context.getBeanNamesForType(InactiveUserArchiver.class).length);
+    }
+
+    @Test
+    void getUserById_shouldServeLiveUserWithETag() {
+        client.get().uri("/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("john@example.com");
+    }
+
+    @Test
+    void getUserByEmail_shouldFallBackToArchiveWithETag() {
+        client.get().uri("/users/email/jane@example.com")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(2)
+                .jsonPath("$.archived").isEqualTo(true);
+    }
+
+    @Test
+    void getUserByEmail_shouldReturnNotFound_whenEmailIsUnknown() {
+        client.get().uri("/users/email/nobody@example.com")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
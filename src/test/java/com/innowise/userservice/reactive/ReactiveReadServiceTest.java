@@ -0,0 +1,109 @@
+package com.innowise.userservice.reactive;
+
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserResponseDto;
+import com.innowise.userservice.exception.UserNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReadServiceTest {
+
+    @Mock
+    private UserRowRepository userRowRepo;
+
+    @Mock
+    private PaymentCardRowRepository paymentCardRowRepo;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private R2dbcEntityTemplate entityTemplate;
+
+    @Mock
+    private RowMapper mapper;
+
+    @Mock
+    private ReactiveDtoCache cache;
+
+    @InjectMocks
+    private ReactiveReadService readService;
+
+    @Test
+    void findUserDtoById_shouldReturnCachedDto_withoutQueryingDatabase() {
+        UserResponseDto cached = UserResponseDto.builder().id(1L).build();
+        when(cache.get("user-slim", 1L, UserResponseDto.class)).thenReturn(Mono.just(cached));
+
+        StepVerifier.create(readService.findUserDtoById(1L, false))
+                .expectNext(cached)
+                .verifyComplete();
+
+        verifyNoInteractions(userRowRepo, paymentCardRowRepo, entityTemplate);
+    }
+
+    @Test
+    void findUserDtoById_shouldLoadUserWithCardsAndCacheIt_whenCacheMisses() {
+        UserRow userRow = new UserRow(1L, "John", "Doe", null, "john@example.com", true, null, null);
+        PaymentCardRow cardRow = new PaymentCardRow(5L, 1L, "1234", "JOHN DOE", null, true, null, null);
+        UserResponseDto dto = UserResponseDto.builder().id(1L).build();
+        PaymentCardResponseDto cardDto = PaymentCardResponseDto.builder().id(5L).build();
+
+        when(cache.get("user", 1L, UserResponseDto.class)).thenReturn(Mono.empty());
+        when(userRowRepo.findById(1L)).thenReturn(Mono.just(userRow));
+        when(paymentCardRowRepo.findAllByUserId(1L)).thenReturn(Flux.just(cardRow));
+        when(mapper.toDto(userRow)).thenReturn(dto);
+        when(mapper.toDto(cardRow)).thenReturn(cardDto);
+        when(cache.put(eq("user"), eq(1L), any())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(readService.findUserDtoById(1L, true))
+                .assertNext(result -> assertEquals(List.of(cardDto), result.getPaymentCards()))
+                .verifyComplete();
+
+        verify(cache).put("user", 1L, dto);
+    }
+
+    @Test
+    void findUserDtoByEmail_shouldFallBackToArchive_whenUserIsNotLive() {
+        UserRow archivedRow = new UserRow(3L, "Jane", "Roe", null, "jane@example.com", false, null, null);
+        UserResponseDto dto = UserResponseDto.builder().id(3L).build();
+
+        when(userRowRepo.findByEmail("jane@example.com")).thenReturn(Mono.empty());
+        when(entityTemplate.select(UserRow.class).from("users_archive").matching(any()).one())
+                .thenReturn(Mono.just(archivedRow));
+        when(mapper.toDto(archivedRow)).thenReturn(dto);
+
+        StepVerifier.create(readService.findUserDtoByEmail("jane@example.com", false))
+                .assertNext(result -> assertTrue(result.isArchived()))
+                .verifyComplete();
+
+        verify(paymentCardRowRepo, never()).findAllByUserId(anyLong());
+    }
+
+    @Test
+    void findUserDtoByEmail_shouldFailWithNotFound_whenUserIsMissing() {
+        when(userRowRepo.findByEmail("missing@example.com")).thenReturn(Mono.empty());
+        when(entityTemplate.select(UserRow.class).from("users_archive").matching(any()).one())
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(readService.findUserDtoByEmail("missing@example.com", false))
+                .expectError(UserNotFoundException.class)
+                .verify();
+
+        verify(paymentCardRowRepo, never()).findAllByUserId(anyLong());
+    }
+}
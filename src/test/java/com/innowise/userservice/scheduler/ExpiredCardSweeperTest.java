@@ -0,0 +1,98 @@
+package com.innowise.userservice.scheduler;
+
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.EntityCacheEvictor;
+import com.innowise.userservice.config.CardProperties;
+import com.innowise.userservice.repository.projection.CardRef;
+import com.innowise.userservice.service.PaymentCardService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredCardSweeperTest {
+
+    @Mock
+    private PaymentCardService paymentCardService;
+
+    @Mock
+    private BatchCacheEvictor cacheEvictor;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExpiredCardSweeper sweeper;
+
+    private final LocalDate today = LocalDate.of(2026, 10, 19);
+
+    @BeforeEach
+    void setUp() {
+        CardProperties cardProperties = new CardProperties();
+        cardProperties.getSweeper().setBatchSize(2);
+        cardProperties.getSweeper().setMaxBatchesPerRun(10);
+
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new ExpiredCardSweeper(paymentCardService, cacheEvictor, entityCacheEvictor, cardProperties, meterRegistry);
+    }
+
+    @Test
+    void sweep_shouldDeactivateInBatchesAndEvictCaches_untilBatchIsNotFull() {
+        when(paymentCardService.deactivateExpired(today, 2))
+                .thenReturn(List.of(ref(1L, 10L), ref(2L, 10L)))
+                .thenReturn(List.of(ref(3L, 11L)));
+        when(paymentCardService.findOldestExpiredActive(today)).thenReturn(Optional.empty());
+
+        int result = sweeper.sweep(today);
+
+        assertEquals(3, result);
+        verify(paymentCardService, times(2)).deactivateExpired(today, 2);
+        verify(entityCacheEvictor).evictCards(List.of(1L, 2L));
+        verify(cacheEvictor).evict("card", List.of(1L, 2L));
+        verify(cacheEvictor).evict("card-json", List.of(1L, 2L));
+        verify(cacheEvictor).evict("cards", List.of(10L));
+        verify(cacheEvictor).evict("user-json", List.of(10L));
+        verify(cacheEvictor).evict("card", List.of(3L));
+        verify(cacheEvictor).evict("cards", List.of(11L));
+        verify(cacheEvictor).evict("user-json", List.of(11L));
+        assertEquals(3.0, meterRegistry.get("cards.sweeper.deactivated").counter().count());
+        assertEquals(0.0, meterRegistry.get("cards.sweeper.lag").gauge().value());
+    }
+
+    @Test
+    void sweep_shouldReportLag_whenExpiredCardsRemain() {
+        when(paymentCardService.deactivateExpired(today, 2)).thenReturn(List.of());
+        when(paymentCardService.findOldestExpiredActive(today)).thenReturn(Optional.of(today.minusDays(3)));
+
+        int result = sweeper.sweep(today);
+
+        assertEquals(0, result);
+        verifyNoInteractions(cacheEvictor);
+        assertEquals(3.0, meterRegistry.get("cards.sweeper.lag").gauge().value());
+    }
+
+    private CardRef ref(Long id, Long userId) {
+        return new CardRef() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.innowise.userservice.scheduler;
+
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.EntityCacheEvictor;
+import com.innowise.userservice.config.ArchiveProperties;
+import com.innowise.userservice.service.UserArchiveService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InactiveUserArchiverTest {
+
+    @Mock
+    private UserArchiveService userArchiveService;
+
+    @Mock
+    private BatchCacheEvictor cacheEvictor;
+
+    @Mock
+    private EntityCacheEvictor entityCacheEvictor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InactiveUserArchiver archiver;
+
+    private final Instant now = Instant.parse("2026-10-19T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        ArchiveProperties archiveProperties = new ArchiveProperties();
+        archiveProperties.setInactiveAfter(Duration.ofDays(30));
+        archiveProperties.setBatchSize(2);
+        archiveProperties.setMaxBatchesPerRun(10);
+
+        meterRegistry = new SimpleMeterRegistry();
+        archiver = new InactiveUserArchiver(userArchiveService, cacheEvictor, entityCacheEvictor, archiveProperties, meterRegistry);
+    }
+
+    @Test
+    void archive_shouldMoveUsersInBatchesAndEvictCaches() {
+        Instant inactiveBefore = now.minus(Duration.ofDays(30));
+        when(userArchiveService.archiveInactive(inactiveBefore, 2))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of());
+        when(userArchiveService.findArchivedCardIds(List.of(1L, 2L))).thenReturn(List.of(10L, 11L, 12L));
+
+        int result = archiver.archive(now);
+
+        assertEquals(2, result);
+        verify(userArchiveService, times(2)).archiveInactive(inactiveBefore, 2);
+        verify(entityCacheEvictor).evictUsersWithCards(List.of(1L, 2L), List.of(10L, 11L, 12L));
+        verify(cacheEvictor).evict("user", List.of(1L, 2L));
+        verify(cacheEvictor).evict("user-slim", List.of(1L, 2L));
+        verify(cacheEvictor).evict("user-json", List.of(1L, 2L));
+        verify(cacheEvictor).evict("user-slim-json", List.of(1L, 2L));
+        verify(cacheEvictor).evict("cards", List.of(1L, 2L));
+        verify(cacheEvictor).evict("cards-json", List.of(1L, 2L));
+        verify(cacheEvictor).evict("card-json", List.of(10L, 11L, 12L));
+        assertEquals(2.0, meterRegistry.get("users.archive.archived").counter().count());
+    }
+}
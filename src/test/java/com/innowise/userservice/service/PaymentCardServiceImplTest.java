@@ -1,9 +1,16 @@
 package com.innowise.userservice.service;
 
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.RedisBatchCache;
+import com.innowise.userservice.config.BatchProperties;
 import com.innowise.userservice.config.CardProperties;
 import com.innowise.userservice.dto.request.PaymentCardCreateDto;
 import com.innowise.userservice.dto.request.PaymentCardUpdateDto;
+import com.innowise.userservice.dto.request.StatusChangeDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
 import com.innowise.userservice.dto.response.PaymentCardResponseDto;
+import com.innowise.userservice.dto.response.UserCardsResponseDto;
 import com.innowise.userservice.entity.PaymentCard;
 import com.innowise.userservice.entity.User;
 import com.innowise.userservice.exception.BadRequestException;
@@ -12,6 +19,8 @@ import com.innowise.userservice.exception.PaymentCardLimitExceededException;
 import com.innowise.userservice.exception.PaymentCardNotFoundException;
 import com.innowise.userservice.mapper.PaymentCardMapper;
 import com.innowise.userservice.repository.PaymentCardRepository;
+import com.innowise.userservice.repository.projection.UserCardCount;
+import com.innowise.userservice.util.ETagHelper;
 import com.innowise.userservice.util.ValidationUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,10 +33,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -51,6 +63,15 @@ class PaymentCardServiceImplTest {
     @Mock
     private CardProperties cardProperties;
 
+    @Mock
+    private RedisBatchCache batchCache;
+
+    @Mock
+    private BatchProperties batchProperties;
+
+    @Mock
+    private BatchCacheEvictor cacheEvictor;
+
     @Mock
     private Pageable pageable;
 
@@ -113,17 +134,70 @@ class PaymentCardServiceImplTest {
         createDto.setUserId(1L);
         createDto.setNumber("12341234");
 
-        List<PaymentCard> cards = new ArrayList<>();
-        for (int i = 0; i < 5; i++) cards.add(PaymentCard.builder().id((long) i).build());
-
-        User user = User.builder().id(1L).paymentCards(cards).build();
+        User user = User.builder().id(1L).build();
 
         when(paymentCardRepo.findByNumber("12341234")).thenReturn(Optional.empty());
         when(userService.findById(1L)).thenReturn(user);
+        when(paymentCardRepo.countByUserId(1L)).thenReturn(5L);
 
         assertThrows(PaymentCardLimitExceededException.class, () -> service.create(createDto));
     }
 
+    @Test
+    void createBatch_shouldEnforceNumberUniquenessAndLimitAcrossItems() {
+        PaymentCardCreateDto first = PaymentCardCreateDto.builder().userId(1L).number("111111111111").build();
+        PaymentCardCreateDto overLimit = PaymentCardCreateDto.builder().userId(1L).number("222222222222").build();
+        PaymentCardCreateDto taken = PaymentCardCreateDto.builder().userId(1L).number("333333333333").build();
+
+        User user = User.builder().id(1L).name("Test").surname("Test").build();
+        UserCardCount cardCount = mock(UserCardCount.class);
+        when(cardCount.getUserId()).thenReturn(1L);
+        when(cardCount.getCards()).thenReturn(4L);
+        PaymentCard cardEntity = PaymentCard.builder().id(10L).number("111111111111").build();
+        PaymentCardResponseDto cardDto = PaymentCardResponseDto.builder().id(10L).number("111111111111").build();
+
+        when(paymentCardRepo.findNumbersIn(List.of("111111111111", "222222222222", "333333333333")))
+                .thenReturn(List.of("333333333333"));
+        when(userService.findAllByIds(List.of(1L))).thenReturn(Map.of(1L, user));
+        when(paymentCardRepo.countByUserIdIn(List.of(1L))).thenReturn(List.of(cardCount));
+        when(mapper.toEntity(first)).thenReturn(cardEntity);
+        when(mapper.toDto(cardEntity)).thenReturn(cardDto);
+
+        List<BatchItemResultDto<PaymentCardResponseDto>> result = service.createBatch(List.of(first, overLimit, taken));
+
+        assertEquals(List.of(201, 409, 409), result.stream().map(BatchItemResultDto::getStatus).toList());
+        assertEquals(user, cardEntity.getUser());
+        verify(paymentCardRepo, never()).findByNumber(any());
+        verify(paymentCardRepo).saveAll(any());
+        verify(batchCache).multiPutAfterCommit("card", Map.of(10L, cardDto));
+        verify(cacheEvictor).evictAfterCommit("cards", Set.of(1L));
+        verify(cacheEvictor).evictAfterCommit("user", Set.of(1L));
+        verify(cacheEvictor).evictAfterCommit("user-json", Set.of(1L));
+        verify(cacheEvictor).evictAfterCommit("cards-json", Set.of(1L));
+    }
+
+    @Test
+    void changeStatusBatch_shouldChangeFoundCardsAndReportMissingOnes() {
+        User user = User.builder().id(7L).build();
+        PaymentCard card = PaymentCard.builder().id(1L).active(false).user(user).build();
+        PaymentCardResponseDto cardDto = PaymentCardResponseDto.builder().id(1L).active(true).build();
+
+        when(paymentCardRepo.findAllById(List.of(1L, 2L))).thenReturn(List.of(card));
+        when(mapper.toDto(card)).thenReturn(cardDto);
+
+        List<BatchItemResultDto<PaymentCardResponseDto>> result = service.changeStatusBatch(List.of(
+                new StatusChangeDto(1L, true),
+                new StatusChangeDto(2L, true)));
+
+        assertEquals(List.of(200, 404), result.stream().map(BatchItemResultDto::getStatus).toList());
+        assertEquals(true, card.getActive());
+        verify(batchCache).multiPutAfterCommit("card", Map.of(1L, cardDto));
+        verify(cacheEvictor).evictAfterCommit("cards", Set.of(7L));
+        verify(cacheEvictor).evictAfterCommit("user", Set.of(7L));
+        verify(cacheEvictor).evictAfterCommit("user-json", Set.of(7L));
+        verify(cacheEvictor).evictAfterCommit("cards-json", Set.of(7L));
+    }
+
     @Test
     void update_shouldSaveAndReturnDto_whenValid() {
         long id = 1L;
@@ -138,18 +212,39 @@ class PaymentCardServiceImplTest {
         doNothing().when(validationUtil).validateMatchingIds(id, updateDto.getId());
         when(paymentCardRepo.findById(id)).thenReturn(Optional.of(existingCard));
         doNothing().when(mapper).updateEntityFromDto(updateDto, existingCard);
-        when(paymentCardRepo.save(existingCard)).thenReturn(updatedCard);
+        when(paymentCardRepo.saveAndFlush(existingCard)).thenReturn(updatedCard);
         when(mapper.toDto(updatedCard)).thenReturn(dto);
 
-        PaymentCardResponseDto result = service.update(id, updateDto);
+        PaymentCardResponseDto result = service.update(id, updateDto, null);
 
         assertEquals(dto, result);
         verify(paymentCardRepo).findById(id);
-        verify(paymentCardRepo).save(existingCard);
+        verify(paymentCardRepo).saveAndFlush(existingCard);
         verify(mapper).updateEntityFromDto(updateDto, existingCard);
         verify(mapper).toDto(updatedCard);
     }
 
+    @Test
+    void update_shouldLockAndSave_whenIfMatchMatchesCurrentVersion() {
+        long id = 1L;
+        PaymentCardUpdateDto updateDto = PaymentCardUpdateDto.builder().id(id).build();
+
+        PaymentCard existingCard = PaymentCard.builder().id(id).number("12341234").build();
+        PaymentCardResponseDto currentDto = PaymentCardResponseDto.builder()
+                .id(id)
+                .updatedAt(Instant.parse("2026-10-19T12:00:00Z"))
+                .build();
+
+        when(paymentCardRepo.findForUpdateById(id)).thenReturn(Optional.of(existingCard));
+        when(mapper.toDto(existingCard)).thenReturn(currentDto);
+        when(paymentCardRepo.saveAndFlush(existingCard)).thenReturn(existingCard);
+
+        service.update(id, updateDto, ETagHelper.cardETag(currentDto));
+
+        verify(paymentCardRepo, never()).findById(anyLong());
+        verify(paymentCardRepo).saveAndFlush(existingCard);
+    }
+
     @Test
     void changeStatus_shouldSaveAndReturnDto_whenStatusChanges() {
         long id = 1L;
@@ -158,14 +253,14 @@ class PaymentCardServiceImplTest {
         PaymentCardResponseDto dto = PaymentCardResponseDto.builder().id(id).active(true).build();
 
         when(paymentCardRepo.findById(id)).thenReturn(Optional.of(card));
-        when(paymentCardRepo.save(card)).thenReturn(savedCard);
+        when(paymentCardRepo.saveAndFlush(card)).thenReturn(savedCard);
         when(mapper.toDto(savedCard)).thenReturn(dto);
 
         PaymentCardResponseDto result = service.changeStatus(id, true);
 
         assertEquals(dto, result);
         verify(paymentCardRepo).findById(id);
-        verify(paymentCardRepo).save(card);
+        verify(paymentCardRepo).saveAndFlush(card);
         verify(mapper).toDto(savedCard);
     }
 
@@ -260,4 +355,22 @@ class PaymentCardServiceImplTest {
         verify(mapper).toDto(cards);
     }
 
-}
\ No newline at end of file
+    @Test
+    void findAllByUserIds_shouldLoadMissesAndCacheEmptyListsForExistingUsers() {
+        User owner = User.builder().id(1L).build();
+        PaymentCard card = PaymentCard.builder().id(10L).user(owner).build();
+        PaymentCardResponseDto cardDto = PaymentCardResponseDto.builder().id(10L).build();
+
+        when(batchCache.<List<PaymentCardResponseDto>>multiGet("cards", List.of(1L, 2L, 3L))).thenReturn(Map.of());
+        when(paymentCardRepo.findAllByUserIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(card));
+        when(mapper.toDto(card)).thenReturn(cardDto);
+        when(userService.findExistingIds(List.of(2L, 3L))).thenReturn(List.of(2L));
+
+        MultiGetResponseDto<UserCardsResponseDto> result = service.findAllByUserIds(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(new UserCardsResponseDto(1L, List.of(cardDto)), new UserCardsResponseDto(2L, List.of())),
+                result.getItems());
+        assertEquals(List.of(3L), result.getMissingIds());
+        verify(batchCache).multiPut("cards", Map.of(1L, List.of(cardDto), 2L, List.of()));
+    }
+}
@@ -1,14 +1,23 @@
 package com.innowise.userservice.service;
 
+import com.innowise.userservice.cache.BatchCacheEvictor;
+import com.innowise.userservice.cache.RedisBatchCache;
+import com.innowise.userservice.config.BatchProperties;
+import com.innowise.userservice.dto.request.StatusChangeDto;
 import com.innowise.userservice.dto.request.UserCreateDto;
 import com.innowise.userservice.dto.request.UserUpdateDto;
+import com.innowise.userservice.dto.response.BatchItemResultDto;
+import com.innowise.userservice.dto.response.MultiGetResponseDto;
+import com.innowise.userservice.dto.response.PaymentCardResponseDto;
 import com.innowise.userservice.dto.response.UserResponseDto;
 import com.innowise.userservice.entity.User;
 import com.innowise.userservice.exception.BadRequestException;
+import com.innowise.userservice.exception.PreconditionFailedException;
 import com.innowise.userservice.exception.UserAlreadyExistsException;
 import com.innowise.userservice.exception.UserNotFoundException;
 import com.innowise.userservice.mapper.UserMapper;
 import com.innowise.userservice.repository.UserRepository;
+import com.innowise.userservice.util.ETagHelper;
 import com.innowise.userservice.util.ValidationUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,11 +29,14 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +52,18 @@ class UserServiceImplTest {
     @Mock
     private ValidationUtil validationUtil;
 
+    @Mock
+    private UserArchiveService userArchiveService;
+
+    @Mock
+    private RedisBatchCache batchCache;
+
+    @Mock
+    private BatchProperties batchProperties;
+
+    @Mock
+    private BatchCacheEvictor cacheEvictor;
+
     @Mock
     private Pageable pageable;
 
@@ -127,19 +151,43 @@ class UserServiceImplTest {
         when(userRepo.findById(userId)).thenReturn(Optional.of(currentUser));
         when(userRepo.findByEmail("new@test.com")).thenReturn(Optional.empty());
         doNothing().when(mapper).updateEntityFromDto(updateDto, currentUser);
-        when(userRepo.save(currentUser)).thenReturn(updatedUser);
+        when(userRepo.saveAndFlush(currentUser)).thenReturn(updatedUser);
         when(mapper.toDto(updatedUser)).thenReturn(userDto);
 
-        UserResponseDto result = service.update(userId, updateDto);
+        UserResponseDto result = service.update(userId, updateDto, null);
 
         assertEquals(userDto, result);
         verify(validationUtil).validateMatchingIds(userId, updateDto.getId());
         verify(userRepo).findById(userId);
-        verify(userRepo).save(currentUser);
+        verify(userRepo).saveAndFlush(currentUser);
         verify(mapper).updateEntityFromDto(updateDto, currentUser);
         verify(mapper).toDto(updatedUser);
     }
 
+    @Test
+    void update_shouldThrow_whenIfMatchDoesNotMatchCurrentVersion() {
+        long userId = 1L;
+        UserUpdateDto updateDto = UserUpdateDto.builder().id(userId).name("New").build();
+
+        User currentUser = User.builder().id(userId).email("old@test.com").build();
+        UserResponseDto currentDto = UserResponseDto.builder()
+                .id(userId)
+                .updatedAt(Instant.parse("2026-10-19T12:00:00Z"))
+                .build();
+        UserResponseDto staleDto = UserResponseDto.builder()
+                .id(userId)
+                .updatedAt(Instant.parse("2026-10-19T11:00:00Z"))
+                .build();
+
+        when(userRepo.findForUpdateById(userId)).thenReturn(Optional.of(currentUser));
+        when(mapper.toDto(currentUser)).thenReturn(currentDto);
+
+        assertThrows(PreconditionFailedException.class,
+                () -> service.update(userId, updateDto, ETagHelper.userETag(staleDto)));
+        verify(mapper, never()).updateEntityFromDto(any(), any());
+        verify(userRepo, never()).saveAndFlush(any());
+    }
+
     @Test
     void delete_shouldCallRepo_whenUserExists() {
         long userId = 1L;
@@ -160,13 +208,13 @@ class UserServiceImplTest {
         UserResponseDto dto = UserResponseDto.builder().id(userId).active(true).build();
 
         when(userRepo.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepo.save(user)).thenReturn(updatedUser);
+        when(userRepo.saveAndFlush(user)).thenReturn(updatedUser);
         when(mapper.toDto(updatedUser)).thenReturn(dto);
 
         UserResponseDto result = service.changeStatus(userId, true);
 
         assertEquals(dto, result);
-        verify(userRepo).save(user);
+        verify(userRepo).saveAndFlush(user);
         verify(mapper).toDto(updatedUser);
     }
 
@@ -182,6 +230,200 @@ class UserServiceImplTest {
         verifyNoMoreInteractions(userRepo, mapper);
     }
 
+    @Test
+    void changeStatus_shouldRestoreFromArchive_whenActivatingArchivedUser() {
+        long userId = 1L;
+        User restoredUser = User.builder().id(userId).active(false).build();
+        UserResponseDto dto = UserResponseDto.builder().id(userId).active(true).build();
+
+        when(userRepo.findById(userId)).thenReturn(Optional.empty(), Optional.of(restoredUser));
+        when(userArchiveService.findArchivedEmailById(userId)).thenReturn(Optional.of("restored@test.com"));
+        when(userRepo.findByEmail("restored@test.com")).thenReturn(Optional.empty());
+        when(userArchiveService.restore(userId)).thenReturn(true);
+        when(userRepo.saveAndFlush(restoredUser)).thenReturn(restoredUser);
+        when(mapper.toDto(restoredUser)).thenReturn(dto);
+
+        UserResponseDto result = service.changeStatus(userId, true);
+
+        assertEquals(dto, result);
+        verify(userArchiveService).restore(userId);
+        verify(userRepo).saveAndFlush(restoredUser);
+    }
+
+    @Test
+    void changeStatus_shouldNotRestore_whenArchivedEmailIsTaken() {
+        long userId = 1L;
+        String email = "restored@test.com";
+
+        when(userRepo.findById(userId)).thenReturn(Optional.empty());
+        when(userArchiveService.findArchivedEmailById(userId)).thenReturn(Optional.of(email));
+        when(userRepo.findByEmail(email)).thenReturn(Optional.of(User.builder().id(2L).email(email).build()));
+
+        assertThrows(UserAlreadyExistsException.class, () -> service.changeStatus(userId, true));
+        verify(userArchiveService, never()).restore(anyLong());
+    }
+
+    @Test
+    void changeStatus_shouldNotRestore_whenDeactivatingMissingUser() {
+        long userId = 1L;
+        when(userRepo.findById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> service.changeStatus(userId, false));
+        verifyNoInteractions(userArchiveService);
+    }
+
+    @Test
+    void findDtoById_shouldReturnArchivedDto_whenUserIsArchived() {
+        long userId = 1L;
+        UserResponseDto archivedDto = UserResponseDto.builder().id(userId).archived(true).build();
+
+        when(userRepo.findById(userId)).thenReturn(Optional.empty());
+        when(userArchiveService.findArchivedDtoById(userId)).thenReturn(Optional.of(archivedDto));
+
+        UserResponseDto result = service.findDtoById(userId);
+
+        assertEquals(archivedDto, result);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void findDtoById_shouldThrow_whenUserIsNeitherHotNorArchived() {
+        long userId = 1L;
+        when(userRepo.findById(userId)).thenReturn(Optional.empty());
+        when(userArchiveService.findArchivedDtoById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class, () -> service.findDtoById(userId));
+    }
+
+    @Test
+    void create_shouldThrow_whenEmailIsArchived() {
+        UserCreateDto createDto = new UserCreateDto();
+        String email = "archived@test.com";
+        createDto.setEmail(email);
+
+        when(userRepo.findByEmail(email)).thenReturn(Optional.empty());
+        when(userArchiveService.isEmailArchived(email)).thenReturn(true);
+
+        assertThrows(UserAlreadyExistsException.class, () -> service.create(createDto));
+        verify(userRepo, never()).save(any());
+    }
+
+    @Test
+    void findDtosByIds_shouldLoadOnlyCacheMissesAndPreserveOrder() {
+        User user = User.builder().id(3L).build();
+        UserResponseDto cached = UserResponseDto.builder().id(1L).build();
+        UserResponseDto loaded = UserResponseDto.builder().id(3L).build();
+
+        when(batchCache.<UserResponseDto>multiGet("user", List.of(3L, 1L, 2L))).thenReturn(Map.of(1L, cached));
+        when(userRepo.findAllWithCardsByIdIn(List.of(3L, 2L))).thenReturn(List.of(user));
+        when(mapper.toDto(user)).thenReturn(loaded);
+
+        MultiGetResponseDto<UserResponseDto> result = service.findDtosByIds(List.of(3L, 1L, 2L, 1L), true);
+
+        assertEquals(List.of(loaded, cached), result.getItems());
+        assertEquals(List.of(2L), result.getMissingIds());
+        verify(batchCache).multiPut("user", Map.of(3L, loaded));
+    }
+
+    @Test
+    void createBatch_shouldRejectTakenAndDuplicateEmailsPerItem() {
+        UserCreateDto taken = UserCreateDto.builder().email("taken@test.com").build();
+        UserCreateDto fresh = UserCreateDto.builder().email("fresh@test.com").build();
+        UserCreateDto duplicate = UserCreateDto.builder().email("fresh@test.com").build();
+        List<String> emails = List.of("taken@test.com", "fresh@test.com", "fresh@test.com");
+
+        User user = User.builder().id(5L).email("fresh@test.com").build();
+        UserResponseDto dto = UserResponseDto.builder().id(5L).email("fresh@test.com").build();
+
+        when(userRepo.findEmailsIn(emails)).thenReturn(List.of("taken@test.com"));
+        when(userArchiveService.findArchivedEmails(emails)).thenReturn(List.of());
+        when(mapper.toEntity(fresh)).thenReturn(user);
+        when(mapper.toDto(user)).thenReturn(dto);
+
+        List<BatchItemResultDto<UserResponseDto>> result = service.createBatch(List.of(taken, fresh, duplicate));
+
+        assertEquals(List.of(409, 201, 409), result.stream().map(BatchItemResultDto::getStatus).toList());
+        assertEquals(dto, result.get(1).getItem());
+        verify(userRepo, never()).findByEmail(any());
+        verify(userRepo).saveAll(any());
+        verify(batchCache).multiPutAfterCommit("user", Map.of(5L, dto));
+    }
+
+    @Test
+    void changeStatusBatch_shouldReportMissingDuplicateAndUnchangedItems() {
+        User active = User.builder().id(1L).active(true).build();
+        User alreadyActive = User.builder().id(3L).active(true).build();
+        UserResponseDto dto = UserResponseDto.builder().id(1L).active(false).build();
+
+        when(userRepo.findAllWithCardsByIdIn(any())).thenReturn(List.of(active, alreadyActive));
+        when(mapper.toDto(active)).thenReturn(dto);
+
+        List<BatchItemResultDto<UserResponseDto>> result = service.changeStatusBatch(List.of(
+                new StatusChangeDto(1L, false),
+                new StatusChangeDto(1L, true),
+                new StatusChangeDto(2L, false),
+                new StatusChangeDto(3L, true)));
+
+        assertEquals(List.of(200, 400, 404, 400), result.stream().map(BatchItemResultDto::getStatus).toList());
+        assertEquals(false, active.getActive());
+        verify(userArchiveService, never()).restore(anyLong());
+        verify(userRepo).flush();
+        verify(batchCache).multiPutAfterCommit("user", Map.of(1L, dto));
+    }
+
+    @Test
+    void findDtosByIds_shouldUseSlimCacheAndSkipCardFetch_whenCardsExcluded() {
+        User user = User.builder().id(2L).build();
+        UserResponseDto slim = UserResponseDto.builder().id(2L).build();
+
+        when(batchCache.<UserResponseDto>multiGet("user-slim", List.of(2L))).thenReturn(Map.of());
+        when(userRepo.findAllById(List.of(2L))).thenReturn(List.of(user));
+        when(mapper.toSlimDto(user)).thenReturn(slim);
+
+        MultiGetResponseDto<UserResponseDto> result = service.findDtosByIds(List.of(2L), false);
+
+        assertEquals(List.of(slim), result.getItems());
+        verify(userRepo, never()).findAllWithCardsByIdIn(any());
+        verify(batchCache).multiPut("user-slim", Map.of(2L, slim));
+    }
+
+    @Test
+    void findDtosByIds_shouldFallBackToArchive_forIdsMissingFromUsers() {
+        User user = User.builder().id(1L).build();
+        UserResponseDto live = UserResponseDto.builder().id(1L).build();
+        UserResponseDto archived = UserResponseDto.builder().id(2L).archived(true).build();
+
+        when(batchCache.<UserResponseDto>multiGet("user", List.of(1L, 2L, 3L))).thenReturn(Map.of());
+        when(userRepo.findAllWithCardsByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(user));
+        when(mapper.toDto(user)).thenReturn(live);
+        when(userArchiveService.findArchivedDtosByIds(List.of(2L, 3L))).thenReturn(List.of(archived));
+
+        MultiGetResponseDto<UserResponseDto> result = service.findDtosByIds(List.of(1L, 2L, 3L), true);
+
+        assertEquals(List.of(live, archived), result.getItems());
+        assertEquals(List.of(3L), result.getMissingIds());
+        verify(batchCache).multiPut("user", Map.of(1L, live, 2L, archived));
+    }
+
+    @Test
+    void findSlimDtoById_shouldDropCards_whenUserIsArchived() {
+        long userId = 7L;
+        UserResponseDto archived = UserResponseDto.builder()
+                .id(userId)
+                .archived(true)
+                .paymentCards(List.of(PaymentCardResponseDto.builder().id(1L).build()))
+                .build();
+
+        when(userRepo.findById(userId)).thenReturn(Optional.empty());
+        when(userArchiveService.findArchivedDtoById(userId)).thenReturn(Optional.of(archived));
+
+        UserResponseDto result = service.findSlimDtoById(userId);
+
+        assertNull(result.getPaymentCards());
+        assertEquals(1, archived.getPaymentCards().size());
+        verify(mapper, never()).toSlimDto(any(User.class));
+    }
+
     @Test
     void findById_returnUser_whenUserExists() {
         long id = 1L;
@@ -242,13 +484,27 @@ class UserServiceImplTest {
         when(userRepo.findAll(any(Specification.class), eq(pageable))).thenReturn(usersPage);
         when(mapper.toDto(usersPage)).thenReturn(dtoPage);
 
-        Page<UserResponseDto> result = service.findAll(null, null, null, null, pageable);
+        Page<UserResponseDto> result = service.findAll(null, null, null, null, true, pageable);
 
         assertEquals(dtoPage, result);
         verify(userRepo).findAll(any(Specification.class), eq(pageable));
         verify(mapper).toDto(usersPage);
     }
 
+    @Test
+    void findAll_shouldMapWithoutCards_whenCardsExcluded() {
+        Page<User> usersPage = new PageImpl<>(List.of(User.builder().id(1L).build()));
+        Page<UserResponseDto> dtoPage = new PageImpl<>(List.of(UserResponseDto.builder().id(1L).build()));
+
+        when(userRepo.findAll(any(Specification.class), eq(pageable))).thenReturn(usersPage);
+        when(mapper.toSlimDto(usersPage)).thenReturn(dtoPage);
+
+        Page<UserResponseDto> result = service.findAll(null, null, null, null, false, pageable);
+
+        assertEquals(dtoPage, result);
+        verify(mapper, never()).toDto(usersPage);
+    }
+
     @Test
     void findAll_shouldBuildSpecification_whenSomeParametersProvided() {
         String name = "Alice";
@@ -276,7 +532,7 @@ class UserServiceImplTest {
         when(userRepo.findAll(any(Specification.class), eq(pageable))).thenReturn(usersPage);
         when(mapper.toDto(usersPage)).thenReturn(dtoPage);
 
-        Page<UserResponseDto> result = service.findAll(name, null, null, active, pageable);
+        Page<UserResponseDto> result = service.findAll(name, null, null, active, true, pageable);
 
         assertEquals(dtoPage, result);
         verify(userRepo).findAll(any(Specification.class), eq(pageable));
@@ -315,7 +571,7 @@ class UserServiceImplTest {
         when(userRepo.findAll(any(Specification.class), eq(pageable))).thenReturn(usersPage);
         when(mapper.toDto(usersPage)).thenReturn(dtoPage);
 
-        Page<UserResponseDto> result = service.findAll(name, surname, birthDate, active, pageable);
+        Page<UserResponseDto> result = service.findAll(name, surname, birthDate, active, true, pageable);
 
         assertEquals(dtoPage, result);
         verify(userRepo).findAll(any(Specification.class), eq(pageable));
@@ -0,0 +1,176 @@
+package com.innowise.userservice.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.innowise.userservice.config.WarmUpProperties;
+import com.innowise.userservice.entity.User;
+import com.innowise.userservice.mapper.PaymentCardMapper;
+import com.innowise.userservice.mapper.UserMapper;
+import com.innowise.userservice.repository.PaymentCardRepository;
+import com.innowise.userservice.repository.UserRepository;
+import com.innowise.userservice.service.PaymentCardService;
+import com.innowise.userservice.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private UserRepository userRepo;
+
+    @Mock
+    private PaymentCardRepository paymentCardRepo;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PaymentCardService paymentCardService;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private PaymentCardMapper paymentCardMapper;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private GenericJackson2JsonRedisSerializer cacheValueSerializer;
+
+    @Mock
+    private ConfigurableApplicationContext context;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private WarmUpProperties properties;
+
+    private WarmUpRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmUpProperties();
+        properties.setTimeout(Duration.ofSeconds(5));
+        properties.setIterations(2);
+        properties.setConnections(3);
+
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new WarmUpRunner(properties, dataSource, redisTemplate, userRepo, paymentCardRepo,
+                userService, paymentCardService, userMapper, paymentCardMapper, objectMapper,
+                cacheValueSerializer, meterRegistry);
+    }
+
+    @Test
+    void warmUp_shouldRefuseTrafficFirst_fillPool_andExerciseHotPaths() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(userRepo.findAll(any(Pageable.class))).thenReturn(users(1L, 2L));
+
+        runner.warmUp(readyEvent());
+
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        InOrder inOrder = inOrder(context, dataSource);
+        inOrder.verify(context).publishEvent(events.capture());
+        inOrder.verify(dataSource, times(3)).getConnection();
+
+        AvailabilityChangeEvent<?> event = (AvailabilityChangeEvent<?>) events.getValue();
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, event.getState());
+        verify(connection, times(3)).close();
+        verify(userRepo, times(2)).findAllWithCardsByIdIn(anyList());
+        verify(userService, times(4)).findDtosByIds(eq(List.of(1L, 2L)), anyBoolean());
+        verify(paymentCardService, times(2)).findAllByUserIds(List.of(1L, 2L));
+        verify(paymentCardService, times(2)).findAllByUserId(1L);
+        assertNotNull(meterRegistry.get("app.warmup").tag("step", "services").tag("outcome", "completed").timer());
+    }
+
+    @Test
+    void warmUp_shouldContinue_whenStepFails() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(userRepo.findById(-1L)).thenThrow(new IllegalStateException("boom"));
+        when(userRepo.findAll(any(Pageable.class))).thenReturn(users(1L));
+
+        runner.warmUp(readyEvent());
+
+        assertNotNull(meterRegistry.get("app.warmup").tag("step", "repositories").tag("outcome", "failed").timer());
+        verify(userService, times(4)).findDtosByIds(anyList(), anyBoolean());
+    }
+
+    @Test
+    void warmUp_shouldNotTouchCachedLookups_whenThereAreNoUsers() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(userRepo.findAll(any(Pageable.class))).thenReturn(users());
+
+        runner.warmUp(readyEvent());
+
+        verify(userService, never()).findDtosByIds(anyList(), anyBoolean());
+        verify(paymentCardService, never()).findAllByUserIds(anyList());
+        verify(paymentCardService, never()).findAllByUserId(anyLong());
+        verify(paymentCardService, times(2)).findAll(true, null, null, PageRequest.of(0, 20));
+    }
+
+    @Test
+    void warmUp_shouldStopFillingPool_whenDeadlinePasses() throws Exception {
+        properties.setTimeout(Duration.ofMillis(100));
+        properties.setConnections(10);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(60);
+            return connection;
+        });
+
+        runner.warmUp(readyEvent());
+
+        verify(dataSource, times(2)).getConnection();
+        verify(connection, times(2)).close();
+        assertNotNull(meterRegistry.get("app.warmup").tag("step", "connection-pool").tag("outcome", "timed-out").timer());
+        assertNotNull(meterRegistry.get("app.warmup").tag("step", "services").tag("outcome", "skipped").timer());
+    }
+
+    private static Page<User> users(Long... ids) {
+        return new PageImpl<>(Arrays.stream(ids).map(id -> User.builder().id(id).build()).toList());
+    }
+
+    private ApplicationReadyEvent readyEvent() {
+        return new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO);
+    }
+}